@@ -0,0 +1,223 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+/**
+ * Benchmark results kept from run to run, so that a Jackson upgrade or a model change that slows the harness down is
+ * caught instead of scrolling past. Each {@link Key} (suite, format, optimizer, pet and JVM) has its own JSON file
+ * holding the last {@link #WINDOW} accepted {@link Sample}s. Once there are {@link #MIN_SAMPLES} of them, a new sample
+ * is compared metric by metric against their median, and regresses on a metric if it is worse than the median by more
+ * than both the relative threshold of its {@link Kind} and {@link #SIGMAS} standard deviations of the kept samples. A
+ * sample without regressions is added to the window; a regressed one is not, so a slowdown cannot become the new normal
+ * one run at a time.
+ * <p>
+ * Configured through system properties:
+ * <ul>
+ * <li>{@code baseline.dir}, the directory of the files, {@code baselines} by default, outside
+ * {@code target} so that {@code mvn clean} keeps it, and git-ignored as its results are those of one machine;</li>
+ * <li>{@code baseline.threshold.throughput}, {@code .latency}, {@code .allocation} and {@code .size}, the relative
+ * thresholds, see {@link Kind};</li>
+ * <li>{@code baseline.sigmas}, {@code baseline.window} and {@code baseline.minSamples};</li>
+ * <li>{@code baseline.update=true} to replace the kept samples with the current ones instead of comparing.</li>
+ * </ul>
+ */
+public final class Baseline {
+
+    public static final Path DIRECTORY = Path.of(System.getProperty("baseline.dir", "baselines"));
+
+    public static final double SIGMAS = Double.parseDouble(System.getProperty("baseline.sigmas", "3"));
+
+    public static final int WINDOW = Integer.getInteger("baseline.window", 5);
+
+    /**
+     * Samples needed before comparing, so that the spread of the machine is known before a change is judged against
+     * it.
+     */
+    public static final int MIN_SAMPLES = Integer.getInteger("baseline.minSamples", 3);
+
+    public static final boolean UPDATE = Boolean.getBoolean("baseline.update");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public enum Kind {
+        /**
+         * Operations per second, where less is worse; 25% by default, as single runs on a shared machine vary that
+         * much.
+         */
+        THROUGHPUT(false, 0.25),
+        /**
+         * Tail latency in nanoseconds; 50% by default, as a p99 is noisier still.
+         */
+        LATENCY(true, 0.5),
+        /**
+         * Bytes allocated per operation, which barely varies between runs.
+         */
+        ALLOCATION(true, 0.1),
+        /**
+         * Encoded size in bytes, which is exact, so any growth regresses.
+         */
+        SIZE(true, 0.0);
+
+        private final boolean lowerIsBetter;
+
+        private final double threshold;
+
+        Kind(final boolean lowerIsBetter, final double defaultThreshold) {
+            this.lowerIsBetter = lowerIsBetter;
+            this.threshold = Double.parseDouble(System.getProperty("baseline.threshold." + name().toLowerCase(Locale.ROOT),
+                    String.valueOf(defaultThreshold)));
+        }
+
+        public double threshold() {
+            return threshold;
+        }
+    }
+
+    public enum Metric {
+        SERIALIZE_OPS(Kind.THROUGHPUT, Sample::serializeOpsPerSecond),
+        DESERIALIZE_OPS(Kind.THROUGHPUT, Sample::deserializeOpsPerSecond),
+        SERIALIZE_P99(Kind.LATENCY, Sample::serializeP99NS),
+        DESERIALIZE_P99(Kind.LATENCY, Sample::deserializeP99NS),
+        SERIALIZE_ALLOC(Kind.ALLOCATION, Sample::serializeAllocatedBytesPerOp),
+        DESERIALIZE_ALLOC(Kind.ALLOCATION, Sample::deserializeAllocatedBytesPerOp),
+        BYTES(Kind.SIZE, Sample::numBytes),
+        COMPRESSED_BYTES(Kind.SIZE, Sample::numCompressedBytes);
+
+        private final Kind kind;
+
+        private final ToLongFunction<Sample> value;
+
+        Metric(final Kind kind, final ToLongFunction<Sample> value) {
+            this.kind = kind;
+            this.value = value;
+        }
+
+        public Kind kind() {
+            return kind;
+        }
+
+        public long value(final Sample sample) {
+            return value.applyAsLong(sample);
+        }
+    }
+
+    /**
+     * @param suite which comparison the result comes from, as the same format runs at a different speed depending on
+     *              what else has run in the JVM before it
+     * @param jvm   vendor and version, as results from different JVMs are not comparable
+     */
+    public record Key(String suite, String format, String optimizer, int pet, int tags, String jvm) {
+
+        public static final String CURRENT_JVM = System.getProperty("java.vm.vendor") + " " + System.getProperty("java.vm.version");
+
+        public static Key of(final String suite, final Format format, final Optimizer optimizer, final int pet, final int tags) {
+            return new Key(suite, format.label(), optimizer.label(), pet, tags, CURRENT_JVM);
+        }
+
+        /**
+         * File name that changes with every field.
+         */
+        public String fileName() {
+            return (String.format(Locale.ROOT, "%s-%s-%s-%d-%d-%s", suite, format, optimizer, pet, tags, jvm)
+                    .replaceAll("[^A-Za-z0-9._-]+", "_")) + ".json";
+        }
+    }
+
+    public record Sample(long serializeOpsPerSecond, long deserializeOpsPerSecond, long serializeP99NS, long deserializeP99NS,
+                         long serializeAllocatedBytesPerOp, long deserializeAllocatedBytesPerOp, long numBytes, long numCompressedBytes) {
+    }
+
+    /**
+     * Contents of one baseline file.
+     */
+    public record Entry(Key key, List<Sample> samples) {
+    }
+
+    /**
+     * @param change relative change from the baseline, signed so that positive is worse
+     */
+    public record Regression(Key key, Metric metric, long baseline, long current, double change) {
+
+        public String formatted() {
+            return String.format(Locale.ROOT, "%s %s: %,d -> %,d (%+.2f%% worse, threshold %.2f%%)", key.fileName(), metric,
+                    baseline, current, 100d * change, 100d * metric.kind().threshold());
+        }
+    }
+
+    private final Path directory;
+
+    private final boolean update;
+
+    private final int minSamples;
+
+    public Baseline() {
+        this(DIRECTORY, UPDATE, MIN_SAMPLES);
+    }
+
+    public Baseline(final Path directory, final boolean update, final int minSamples) {
+        this.directory = directory;
+        this.update = update;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Compares {@code sample} with the baseline of {@code key} and records it. Until there are enough samples to compare
+     * against, the sample is only recorded; when updating, it replaces the kept ones.
+     *
+     * @return the metrics that regressed, empty if none did
+     */
+    public List<Regression> check(final Key key, final Sample sample) throws IOException {
+        final Path file = directory.resolve(key.fileName());
+        final List<Sample> samples = !update && Files.exists(file)
+                ? new ArrayList<>(OBJECT_MAPPER.readValue(file.toFile(), Entry.class).samples()) : new ArrayList<>();
+        final List<Regression> regressions = new ArrayList<>();
+        if (samples.size() >= Math.max(1, minSamples)) {
+            for (final Metric metric : Metric.values()) {
+                final Regression regression = compare(key, metric, samples, metric.value(sample));
+                if (regression != null) {
+                    regressions.add(regression);
+                }
+            }
+        }
+        if (regressions.isEmpty()) {
+            samples.add(sample);
+            while (samples.size() > WINDOW) {
+                samples.remove(0);
+            }
+            write(file, new Entry(key, samples));
+        }
+        return regressions;
+    }
+
+    private static Regression compare(final Key key, final Metric metric, final List<Sample> samples, final long current) {
+        final long[] values = samples.stream().mapToLong(metric::value).sorted().toArray();
+        final long median = values[values.length / 2];
+        final double mean = Arrays.stream(values).average().orElse(0);
+        final double sigma = Math.sqrt(Arrays.stream(values).mapToDouble(value -> (value - mean) * (value - mean)).sum() / values.length);
+        final double worse = metric.kind().lowerIsBetter ? current - median : median - current;
+        final double change = median == 0 ? (worse > 0 ? Double.POSITIVE_INFINITY : 0) : worse / median;
+        return change > metric.kind().threshold() && worse > SIGMAS * sigma
+                ? new Regression(key, metric, median, current, change) : null;
+    }
+
+    /**
+     * Writes through a temporary file, so an interrupted run leaves the previous baseline intact.
+     */
+    private static void write(final Path file, final Entry entry) throws IOException {
+        Files.createDirectories(file.getParent());
+        final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        OBJECT_MAPPER.writeValue(tmp.toFile(), entry);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
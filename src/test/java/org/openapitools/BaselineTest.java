@@ -0,0 +1,84 @@
+package org.openapitools;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BaselineTest {
+
+    private static final Baseline.Key KEY = Baseline.Key.of("Formats", Format.SMILE, Optimizer.NONE, 2, 1_000);
+
+    private static final Baseline.Sample SAMPLE = new Baseline.Sample(10_000, 8_000, 200_000, 300_000, 40_000, 60_000, 35_000, 9_000);
+
+    @Test
+    void testFirstRunRecords(@TempDir final Path directory) throws Exception {
+        assertEquals(List.of(), new Baseline(directory, false, 1).check(KEY, SAMPLE));
+        assertTrue(Files.exists(directory.resolve(KEY.fileName())));
+        assertEquals(List.of(), new Baseline(directory, false, 1).check(KEY, SAMPLE));
+    }
+
+    @Test
+    void testWithinThresholds(@TempDir final Path directory) throws Exception {
+        final Baseline baseline = new Baseline(directory, false, 1);
+        baseline.check(KEY, SAMPLE);
+        // a little slower and a little more allocation, all within the default thresholds
+        assertEquals(List.of(), baseline.check(KEY, new Baseline.Sample(9_000, 7_000, 250_000, 400_000, 42_000, 63_000, 35_000, 9_000)));
+        // better is never a regression
+        assertEquals(List.of(), baseline.check(KEY, new Baseline.Sample(20_000, 16_000, 100_000, 150_000, 20_000, 30_000, 30_000, 8_000)));
+    }
+
+    @Test
+    void testRegressions(@TempDir final Path directory) throws Exception {
+        final Baseline baseline = new Baseline(directory, false, 1);
+        baseline.check(KEY, SAMPLE);
+        final List<Baseline.Regression> regressions = baseline.check(KEY,
+                new Baseline.Sample(5_000, 8_000, 200_000, 900_000, 40_000, 90_000, 35_001, 9_000));
+        assertEquals(List.of(Baseline.Metric.SERIALIZE_OPS, Baseline.Metric.DESERIALIZE_P99, Baseline.Metric.DESERIALIZE_ALLOC,
+                Baseline.Metric.BYTES), regressions.stream().map(Baseline.Regression::metric).toList());
+        assertEquals(0.5, regressions.get(0).change(), 1e-9);
+        // a regressed sample is not kept, so it fails again the next time
+        assertEquals(4, baseline.check(KEY, new Baseline.Sample(5_000, 8_000, 200_000, 900_000, 40_000, 90_000, 35_001, 9_000)).size());
+        // until the baseline is deliberately replaced
+        assertEquals(List.of(), new Baseline(directory, true, 1).check(KEY, new Baseline.Sample(5_000, 8_000, 200_000, 900_000, 40_000, 90_000, 35_001, 9_000)));
+        assertEquals(List.of(), baseline.check(KEY, new Baseline.Sample(5_000, 8_000, 200_000, 900_000, 40_000, 90_000, 35_001, 9_000)));
+    }
+
+    /**
+     * With several kept samples, a change within their spread is not a regression even above the relative threshold.
+     */
+    @Test
+    void testNoisyMetric(@TempDir final Path directory) throws Exception {
+        final Baseline baseline = new Baseline(directory, false, 1);
+        for (final long p99 : new long[]{200_000, 100_000, 300_000, 300_000}) {
+            assertEquals(List.of(), baseline.check(KEY, new Baseline.Sample(10_000, 8_000, p99, 300_000, 40_000, 60_000, 35_000, 9_000)));
+        }
+        assertEquals(List.of(), baseline.check(KEY, new Baseline.Sample(10_000, 8_000, 460_000, 300_000, 40_000, 60_000, 35_000, 9_000)));
+    }
+
+    @Test
+    void testMinSamples(@TempDir final Path directory) throws Exception {
+        final Baseline baseline = new Baseline(directory, false, 3);
+        final Baseline.Sample slow = new Baseline.Sample(1_000, 8_000, 200_000, 300_000, 40_000, 60_000, 35_000, 9_000);
+        // recorded, not compared, until there are three
+        assertEquals(List.of(), baseline.check(KEY, SAMPLE));
+        assertEquals(List.of(), baseline.check(KEY, slow));
+        new Baseline(directory, true, 3).check(KEY, SAMPLE);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(List.of(), baseline.check(KEY, SAMPLE));
+        }
+        assertEquals(List.of(Baseline.Metric.SERIALIZE_OPS), baseline.check(KEY, slow).stream().map(Baseline.Regression::metric).toList());
+    }
+
+    @Test
+    void testKeyPerJvm() {
+        assertNotEquals(KEY.fileName(), new Baseline.Key(KEY.suite(), KEY.format(), KEY.optimizer(), KEY.pet(), KEY.tags(), "Other 1.0").fileName());
+        assertTrue(KEY.fileName().matches("[A-Za-z0-9._-]+"), KEY.fileName());
+    }
+}
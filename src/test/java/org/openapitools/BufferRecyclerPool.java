@@ -0,0 +1,55 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.BufferRecyclers;
+
+/**
+ * Source of the {@link BufferRecycler} handed to every parser and generator created by {@link PooledJsonFactory}
+ * and {@link PooledSmileFactory}. Jackson 2.15 only offers a {@code ThreadLocal} recycler, which a virtual thread
+ * never reuses because each task runs on a new thread.
+ */
+@FunctionalInterface
+public interface BufferRecyclerPool {
+
+    BufferRecycler acquire();
+
+    /**
+     * Jackson's own behaviour: one recycler per thread, held through a {@code SoftReference}.
+     */
+    static BufferRecyclerPool threadLocal() {
+        return BufferRecyclers::getBufferRecycler;
+    }
+
+    /**
+     * No recycling at all: every parser and generator allocates fresh buffers.
+     */
+    static BufferRecyclerPool unpooled() {
+        return BufferRecycler::new;
+    }
+
+    /**
+     * Striped pool sized to four stripes per core.
+     */
+    static BufferRecyclerPool striped() {
+        return striped(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Lock-free pool of shared recyclers selected by thread id. {@link BufferRecycler} keeps its buffers in
+     * {@code AtomicReferenceArray}s, so two threads on the same stripe never share a buffer; the loser of a race
+     * just allocates, exactly as if the pool were empty.
+     */
+    static BufferRecyclerPool striped(final int stripes) {
+        final int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        final BufferRecycler[] recyclers = new BufferRecycler[size];
+        for (int i = 0; i < size; i++) {
+            recyclers[i] = new BufferRecycler();
+        }
+        final int mask = size - 1;
+        return () -> {
+            final long id = Thread.currentThread().threadId();
+            final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return recyclers[(hash ^ (hash >>> 16)) & mask];
+        };
+    }
+}
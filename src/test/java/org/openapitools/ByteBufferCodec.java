@@ -0,0 +1,107 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values straight into caller-supplied, reusable {@link ByteBuffer}s and reads them back from buffer slices,
+ * avoiding the {@code byte[]} that {@link ObjectMapper#writeValueAsBytes(Object)} has to copy its output into.
+ * Works for heap and direct buffers and any {@link ObjectMapper} format. Instances are thread-safe.
+ */
+public final class ByteBufferCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public ByteBufferCodec(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes {@code value} at the position of {@code target}. If it does not fit, a buffer of twice the capacity
+     * and the same kind (heap or direct) is allocated, the bytes before the original position are carried over and
+     * the value is written again. Callers should keep the returned buffer for the next call.
+     *
+     * @return the buffer holding the value, positioned just after it
+     */
+    public ByteBuffer write(final Object value, final ByteBuffer target) throws IOException {
+        ByteBuffer buffer = target;
+        final int start = buffer.position();
+        while (true) {
+            try {
+                objectMapper.writeValue(new ByteBufferOutputStream(buffer), value);
+                return buffer;
+            } catch (BufferOverflow e) {
+                buffer = grow(buffer, start);
+            }
+        }
+    }
+
+    /**
+     * Reads one value from the remaining bytes of {@code source}, which are consumed. Heap buffers are parsed in
+     * place through their backing array; direct buffers are streamed through Jackson's recycled input buffer.
+     */
+    public <T> T read(final ByteBuffer source, final Class<T> type) throws IOException {
+        final T value;
+        if (source.hasArray()) {
+            value = objectMapper.readValue(source.array(), source.arrayOffset() + source.position(), source.remaining(), type);
+        } else {
+            value = objectMapper.readValue(new ByteBufferBackedInputStream(source.slice()), type);
+        }
+        source.position(source.limit());
+        return value;
+    }
+
+    private static ByteBuffer grow(final ByteBuffer buffer, final int start) {
+        final int capacity = Math.max(2 * buffer.capacity(), 256);
+        final ByteBuffer grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        grown.order(buffer.order());
+        grown.put(buffer.flip().limit(start));
+        return grown;
+    }
+
+    /**
+     * Thrown through Jackson, which passes {@link IOException}s on unwrapped, when the target buffer is full.
+     */
+    private static final class BufferOverflow extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private BufferOverflow() {
+            super("ByteBuffer overflow");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class ByteBufferOutputStream extends OutputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferOutputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                throw new BufferOverflow();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (buffer.remaining() < length) {
+                throw new BufferOverflow();
+            }
+            buffer.put(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openapitools.model.Pet;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ByteBufferCodecTest {
+
+    private static final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+
+    private static final Pet[] PET = petMaker.createPets();
+
+    private static final int WARM_ITERATIONS = 1_000;
+
+    private static final int RECORD_ITERATIONS = 5_000;
+
+    private static final List<String> VARIANTS = List.of("byte[]", "heap", "direct");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ObjectMapper", "SmileMapper"})
+    void testRoundTrip(final String mapper) throws Exception {
+        final ByteBufferCodec codec = new ByteBufferCodec(mapper(mapper));
+        for (final boolean direct : new boolean[] {false, true}) {
+            // deliberately too small so the first writes have to grow the buffer
+            ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(16) : ByteBuffer.allocate(16);
+            for (final Pet pet : PET) {
+                buffer = codec.write(pet, buffer.clear());
+                assertEquals(direct, buffer.isDirect());
+                assertEquals(pet, codec.read(buffer.flip(), Pet.class));
+                assertEquals(0, buffer.remaining());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ObjectMapper", "SmileMapper"})
+    void testByteBufferSpeed(final String mapper) throws Exception {
+        final ObjectMapper objectMapper = mapper(mapper);
+        final ByteBufferCodec codec = new ByteBufferCodec(objectMapper);
+        for (int i = 0; i < PET.length; i++) {
+            final Pet pet = PET[i];
+            final String nm = mapper + ":" + i + "/" + pet.getTags().size();
+            final byte[] bytes = objectMapper.writeValueAsBytes(pet);
+            final ByteBuffer heap = codec.write(pet, ByteBuffer.allocate(bytes.length));
+            final ByteBuffer direct = codec.write(pet, ByteBuffer.allocateDirect(bytes.length));
+            System.out.printf("%n%nByteBuffer:%s%n", nm);
+            Measure.report(nm, "Serialize", VARIANTS,
+                    measure(() -> objectMapper.writeValueAsBytes(pet)),
+                    measure(() -> codec.write(pet, heap.clear())),
+                    measure(() -> codec.write(pet, direct.clear())));
+            Measure.report(nm, "DeSerialize", VARIANTS,
+                    measure(() -> objectMapper.readValue(bytes, Pet.class)),
+                    measure(() -> codec.read(heap.flip(), Pet.class)),
+                    measure(() -> codec.read(direct.flip(), Pet.class)));
+        }
+    }
+
+    private static ObjectMapper mapper(final String mapper) {
+        return Mappers.configure("SmileMapper".equals(mapper) ? new SmileMapper() : new ObjectMapper(), Optimizer.NONE);
+    }
+
+    private static Measure.Measurement measure(final Measure.Operation operation) throws Exception {
+        return Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, operation);
+    }
+}
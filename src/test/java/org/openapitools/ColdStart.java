@@ -0,0 +1,90 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openapitools.model.Category;
+import org.openapitools.model.Pet;
+import org.openapitools.model.Tag;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * One cold start, meant to run as the main class of a fresh JVM: builds and configures a mapper, optionally
+ * bootstraps it, then serializes and deserializes each model type once, twice. Every step is timed and printed as a
+ * {@code step nanos} line on standard out. The sample models are made before the first clock starts, so their
+ * classes are already loaded but none of Jackson is.
+ * <p>
+ * Arguments: a {@link Format} and a {@link Mode}.
+ */
+public final class ColdStart {
+
+    public static final List<Class<?>> TYPES = List.of(Pet.class, Category.class, Tag.class);
+
+    public enum Mode {
+        /**
+         * Requests go straight to the mapper.
+         */
+        COLD,
+        /**
+         * {@link MapperBootstrap} resolves the writer and reader of each type at startup.
+         */
+        PREFETCH,
+        /**
+         * As {@link #PREFETCH}, and round-trips a sample of each type at startup.
+         */
+        WARM
+    }
+
+    private ColdStart() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Format format = Format.valueOf(args[0]);
+        final Mode mode = Mode.valueOf(args[1]);
+        final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+        final Pet warmPet = petMaker.createPet(10);
+        final Pet pet = petMaker.createPet(10);
+        final Map<Class<?>, Object> samples = Map.of(Pet.class, pet, Category.class, pet.getCategory(), Tag.class, pet.getTags().get(0));
+        final Map<Class<?>, Object> warmSamples = Map.of(Pet.class, warmPet, Category.class, warmPet.getCategory(),
+                Tag.class, warmPet.getTags().get(0));
+
+        final Map<String, Long> steps = new LinkedHashMap<>();
+        long startNS = System.nanoTime();
+        final ObjectMapper objectMapper = format.mapper();
+        steps.put("construct", System.nanoTime() - startNS);
+        startNS = System.nanoTime();
+        Mappers.configure(objectMapper, Optimizer.NONE);
+        steps.put("configure", System.nanoTime() - startNS);
+        startNS = System.nanoTime();
+        final MapperBootstrap bootstrap = mode == Mode.COLD ? null : new MapperBootstrap(objectMapper, TYPES.toArray(new Class<?>[0]));
+        if (mode == Mode.WARM) {
+            for (final Class<?> type : TYPES) {
+                bootstrap.warm(warmSamples.get(type));
+            }
+        }
+        steps.put("bootstrap", System.nanoTime() - startNS);
+
+        for (final String round : new String[]{"first", "second"}) {
+            for (final Class<?> type : TYPES) {
+                final Object sample = samples.get(type);
+                startNS = System.nanoTime();
+                final ObjectWriter writer = bootstrap == null ? objectMapper.writerFor(type) : bootstrap.writer(type);
+                final byte[] bytes = writer.writeValueAsBytes(sample);
+                steps.put(round + "Serialize:" + type.getSimpleName(), System.nanoTime() - startNS);
+                startNS = System.nanoTime();
+                final ObjectReader reader = bootstrap == null ? objectMapper.readerFor(type) : bootstrap.reader(type);
+                final Object value = reader.readValue(bytes);
+                steps.put(round + "DeSerialize:" + type.getSimpleName(), System.nanoTime() - startNS);
+                if (!sample.equals(value)) {
+                    throw new IllegalStateException("Round trip changed " + sample);
+                }
+            }
+        }
+        steps.forEach((step, nanos) -> System.out.println(step + " " + nanos));
+    }
+}
@@ -0,0 +1,125 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Cold start of a mapper, each run in a fresh JVM started from this JVM's class path, so nothing Jackson has loaded,
+ * resolved or compiled here carries over. The table shows the median over {@link #RUNS} JVMs per mode, in
+ * microseconds, with each bootstrapped mode relative to {@link ColdStart.Mode#COLD}.
+ */
+class ColdStartTest {
+
+    private static final int RUNS = Integer.getInteger("coldstart.runs", 3);
+
+    private static final long NANOS_IN_A_MICRO = 1_000L;
+
+    @Test
+    void testBootstrap() throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(Format.JSON.mapper(), Optimizer.NONE);
+        final Pet pet = new PetMaker(new Random(PetMaker.SEED)).createPet(3);
+        final MapperBootstrap bootstrap = new MapperBootstrap(objectMapper, ColdStart.TYPES.toArray(new Class<?>[0])).warm(pet);
+        assertSame(bootstrap.writer(Pet.class), bootstrap.writer(Pet.class));
+        assertEquals(pet, bootstrap.reader(Pet.class).readValue(bootstrap.writer(Pet.class).writeValueAsBytes(pet)));
+        assertThrows(IllegalArgumentException.class, () -> bootstrap.writer(String.class));
+        assertThrows(IllegalArgumentException.class, () -> bootstrap.warm("not a model"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testColdStart(final Format format) throws Exception {
+        final Map<ColdStart.Mode, Map<String, Long>> medians = new EnumMap<>(ColdStart.Mode.class);
+        for (final ColdStart.Mode mode : ColdStart.Mode.values()) {
+            final List<Map<String, Long>> runs = new ArrayList<>();
+            for (int i = 0; i < RUNS; i++) {
+                runs.add(run(format, mode));
+            }
+            medians.put(mode, median(runs));
+        }
+        final Map<String, Long> cold = medians.get(ColdStart.Mode.COLD);
+        System.out.printf("%n%nColdStart:%s runs=%d (us)%n", format.label(), RUNS);
+        System.out.printf("%-28s", format.label());
+        for (final ColdStart.Mode mode : ColdStart.Mode.values()) {
+            System.out.printf(" %-22s", mode);
+        }
+        System.out.println();
+        for (final String step : cold.keySet()) {
+            System.out.printf("%-28s", step);
+            for (final ColdStart.Mode mode : ColdStart.Mode.values()) {
+                final long nanos = medians.get(mode).get(step);
+                if (mode == ColdStart.Mode.COLD) {
+                    System.out.printf(" %-,22d", nanos / NANOS_IN_A_MICRO);
+                } else {
+                    // COLD has no bootstrap step, so there is nothing to compare against
+                    System.out.printf(" %-,12d %9s", nanos / NANOS_IN_A_MICRO, "bootstrap".equals(step) ? "-"
+                            : String.format("%.2f%%", 100d * nanos / cold.get(step)));
+                }
+            }
+            System.out.println();
+        }
+        System.out.printf("%-28s", "firstRequests");
+        for (final ColdStart.Mode mode : ColdStart.Mode.values()) {
+            final long nanos = firstRequests(medians.get(mode));
+            if (mode == ColdStart.Mode.COLD) {
+                System.out.printf(" %-,22d", nanos / NANOS_IN_A_MICRO);
+            } else {
+                System.out.printf(" %-,12d %8.2f%%", nanos / NANOS_IN_A_MICRO, 100d * nanos / firstRequests(cold));
+            }
+        }
+        System.out.println();
+    }
+
+    /**
+     * Starts {@link ColdStart} in a new JVM and collects its {@code step nanos} lines.
+     */
+    private static Map<String, Long> run(final Format format, final ColdStart.Mode mode) throws IOException, InterruptedException {
+        final Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), ColdStart.class.getName(), format.name(), mode.name())
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        final Map<String, Long> steps = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] fields = line.split(" ");
+                steps.put(fields[0], Long.parseLong(fields[1]));
+            }
+        }
+        assertEquals(0, process.waitFor(), "ColdStart " + format + " " + mode);
+        return steps;
+    }
+
+    private static Map<String, Long> median(final List<Map<String, Long>> runs) {
+        final Map<String, Long> median = new LinkedHashMap<>();
+        for (final String step : runs.get(0).keySet()) {
+            final long[] values = runs.stream().mapToLong(run -> run.get(step)).toArray();
+            Arrays.sort(values);
+            median.put(step, values[values.length / 2]);
+        }
+        return median;
+    }
+
+    private static long firstRequests(final Map<String, Long> steps) {
+        return steps.entrySet().stream().filter(step -> step.getKey().startsWith("first")).mapToLong(Map.Entry::getValue).sum();
+    }
+}
@@ -0,0 +1,170 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionPerformanceTest {
+
+    private static final Pet[] PET = new PetMaker(new Random(PetMaker.SEED)).createPets();
+
+    /**
+     * Per PET, so PET[2] at level 9 stays within a few seconds.
+     */
+    private static final int[] RECORD_ITERATIONS = {20_000, 2_000, 200};
+
+    private static final int CORPUS_SIZE = 500;
+
+    private static final int CORPUS_MAX_TAGS = 20;
+
+    private static final int[] LEVELS = {Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION};
+
+    private static final Format[] FORMATS = {Format.JSON, Format.SMILE};
+
+    @FunctionalInterface
+    interface Stage {
+        byte[] apply(byte[] bytes) throws IOException;
+    }
+
+    record Codec(String name, Stage compress, Stage decompress) {
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testRoundTrip(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final byte[] dictionary = DeflateCodec.train(corpus(objectMapper), DeflateCodec.MAX_DICTIONARY_SIZE);
+        assertTrue(dictionary.length > 0 && dictionary.length <= DeflateCodec.MAX_DICTIONARY_SIZE);
+        for (final int level : LEVELS) {
+            final DeflateCodec plain = new DeflateCodec(level);
+            final DeflateCodec primed = new DeflateCodec(level, dictionary);
+            for (final Pet pet : PET) {
+                final byte[] bytes = objectMapper.writeValueAsBytes(pet);
+                // twice, so the second pass runs on pooled, reset instances
+                for (int i = 0; i < 2; i++) {
+                    assertArrayEquals(bytes, plain.decompress(plain.compress(bytes)));
+                    assertArrayEquals(bytes, primed.decompress(primed.compress(bytes)));
+                }
+            }
+            final byte[] small = objectMapper.writeValueAsBytes(PET[0]);
+            assertTrue(primed.compress(small).length < plain.compress(small).length);
+        }
+    }
+
+    @Test
+    void testTruncated() throws Exception {
+        final DeflateCodec codec = new DeflateCodec(Deflater.DEFAULT_COMPRESSION);
+        final byte[] compressed = codec.compress(Mappers.configure(new ObjectMapper(), Optimizer.NONE).writeValueAsBytes(PET[1]));
+        assertThrows(ZipException.class, () -> codec.decompress(Arrays.copyOf(compressed, compressed.length / 2)));
+        assertEquals(0, codec.decompress(codec.compress(new byte[0])).length);
+    }
+
+    /**
+     * Serialize, compress, decompress and deserialize as separate stages for JSON and Smile, with gzip as the codec
+     * the harness has always used and raw Deflate at three levels with and without a dictionary trained on a separate
+     * PetMaker corpus. Sizes are also shown against gzipped JSON, the usual wire format.
+     */
+    @Test
+    void testCompressionSpeed() throws Exception {
+        final Map<Format, ObjectMapper> mappers = new EnumMap<>(Format.class);
+        final Map<Format, List<Codec>> codecs = new EnumMap<>(Format.class);
+        for (final Format format : FORMATS) {
+            final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+            mappers.put(format, objectMapper);
+            codecs.put(format, codecs(DeflateCodec.train(corpus(objectMapper), DeflateCodec.MAX_DICTIONARY_SIZE)));
+        }
+        for (int i = 0; i < PET.length; i++) {
+            final Pet pet = PET[i];
+            final int iterations = RECORD_ITERATIONS[i];
+            final String nm = i + "/" + pet.getTags().size();
+            final int gzippedJson = gzip(mappers.get(Format.JSON).writeValueAsBytes(pet)).length;
+            System.out.printf("%n%nCompression:%s%n", nm);
+            System.out.printf("%-12s %-10s %-10s %-8s %-8s %-18s %-18s %-18s %-18s %-18s%n", nm, "Codec", "Bytes", "Ratio", "vsGzJSON",
+                    "Serialize(ops/s)", "Compress(ops/s)", "Compress(alloc/op)", "Decompress(ops/s)", "DeSerialize(ops/s)");
+            for (final Format format : FORMATS) {
+                final ObjectMapper objectMapper = mappers.get(format);
+                final byte[] bytes = objectMapper.writeValueAsBytes(pet);
+                final Measure.Measurement serialize = measure(iterations, () -> objectMapper.writeValueAsBytes(pet));
+                final Measure.Measurement deserialize = measure(iterations, () -> objectMapper.readValue(bytes, Pet.class));
+                for (final Codec codec : codecs.get(format)) {
+                    final byte[] compressed = codec.compress().apply(bytes);
+                    final Measure.Measurement compress = measure(iterations, () -> codec.compress().apply(bytes));
+                    final Measure.Measurement decompress = measure(iterations, () -> codec.decompress().apply(compressed));
+                    System.out.printf("%-12s %-10s %-,10d %6.2f%% %6.2f%% %-,18d %-,18d %-,18d %-,18d %-,18d%n", format.label(),
+                            codec.name(), compressed.length, 100d * compressed.length / bytes.length, 100d * compressed.length / gzippedJson,
+                            serialize.opsPerSecond(), compress.opsPerSecond(), compress.allocatedBytesPerOp(), decompress.opsPerSecond(), deserialize.opsPerSecond());
+                }
+            }
+        }
+    }
+
+    /**
+     * Training messages from their own seed, so the dictionary never contains the PETs it is measured on.
+     */
+    private static List<byte[]> corpus(final ObjectMapper objectMapper) throws IOException {
+        final Random random = new Random(PetMaker.SEED + 1);
+        final PetMaker petMaker = new PetMaker(random);
+        final List<byte[]> corpus = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            corpus.add(objectMapper.writeValueAsBytes(petMaker.createPet(random.nextInt(CORPUS_MAX_TAGS + 1))));
+        }
+        return corpus;
+    }
+
+    private static List<Codec> codecs(final byte[] dictionary) {
+        final List<Codec> codecs = new ArrayList<>();
+        codecs.add(new Codec("gzip", CompressionPerformanceTest::gzip, CompressionPerformanceTest::gunzip));
+        for (final int level : LEVELS) {
+            final DeflateCodec plain = new DeflateCodec(level);
+            codecs.add(new Codec("deflate" + label(level), plain::compress, plain::decompress));
+        }
+        for (final int level : LEVELS) {
+            final DeflateCodec primed = new DeflateCodec(level, dictionary);
+            codecs.add(new Codec("dict" + label(level), primed::compress, primed::decompress));
+        }
+        return codecs;
+    }
+
+    private static String label(final int level) {
+        return level == Deflater.DEFAULT_COMPRESSION ? "/6" : "/" + level;
+    }
+
+    private static byte[] gzip(final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static byte[] gunzip(final byte[] bytes) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzipInputStream.readAllBytes();
+        }
+    }
+
+    private static Measure.Measurement measure(final int iterations, final Measure.Operation operation) throws Exception {
+        return Measure.measure(iterations / 10, iterations, operation);
+    }
+}
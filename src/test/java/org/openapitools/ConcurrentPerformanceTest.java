@@ -0,0 +1,123 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput scaling of one shared mapper and one shared {@link Pet} hammered by 1..N threads, where N defaults to
+ * the number of cores and can be set with {@code -Dconcurrent.maxThreads}. The JMH equivalent is
+ * {@code mvn -Pjmh verify -Djmh.args="-t <threads> JacksonBenchmark"}, whose benchmark-scoped state is shared the same way.
+ */
+class ConcurrentPerformanceTest {
+
+    private static final long NANOS_IN_A_SECOND = 1_000_000_000L;
+
+    private static final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+
+    private static final Pet[] PET = petMaker.createPets();
+
+    /** Per-thread iterations for each PET, sized so every run takes a similar amount of time. */
+    private static final int[] ITERATIONS = { 20_000, 2_000, 200 };
+
+    private static final int MAX_THREADS = Integer.getInteger("concurrent.maxThreads", Runtime.getRuntime().availableProcessors());
+
+    @FunctionalInterface
+    interface Operation {
+        void run() throws Exception;
+    }
+
+    record Scaling(int threads, long opsPerSecond) {
+
+        double efficiency(final Scaling single) {
+            return ((double) opsPerSecond()) / ((double) (single.opsPerSecond() * threads()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Optimizer.class, names = {"NONE", "BLACKBIRD"})
+    void testScaling(final Optimizer optimizer) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(new ObjectMapper(), optimizer);
+        final SmileMapper smileMapper = Mappers.configure(new SmileMapper(), optimizer);
+        for (int i = 0; i < PET.length; i++) {
+            final Pet pet = PET[i];
+            final String nm = optimizer.label() + "/" + i + "/" + pet.getTags().size();
+            final byte[] json = objectMapper.writeValueAsBytes(pet);
+            final byte[] smile = smileMapper.writeValueAsBytes(pet);
+            System.out.printf("%n%nConcurrent:%s%n", nm);
+            report(nm, "Serialize",
+                    scaling(i, () -> objectMapper.writeValueAsBytes(pet)),
+                    scaling(i, () -> smileMapper.writeValueAsBytes(pet)));
+            report(nm, "DeSerialize",
+                    scaling(i, () -> objectMapper.readValue(json, Pet.class)),
+                    scaling(i, () -> smileMapper.readValue(smile, Pet.class)));
+        }
+    }
+
+    List<Scaling> scaling(final int petNum, final Operation operation) throws Exception {
+        final List<Scaling> scaling = new ArrayList<>();
+        // warm up on a single thread so the first measured run is not dominated by JIT compilation
+        run(1, ITERATIONS[petNum], operation);
+        for (int threads = 1; threads <= MAX_THREADS; threads = nextThreads(threads)) {
+            scaling.add(new Scaling(threads, run(threads, ITERATIONS[petNum], operation)));
+        }
+        return scaling;
+    }
+
+    private static int nextThreads(final int threads) {
+        return threads < MAX_THREADS && threads * 2 > MAX_THREADS ? MAX_THREADS : threads * 2;
+    }
+
+    long run(final int threads, final int iterations, final Operation operation) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch ready = new CountDownLatch(threads);
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        operation.run();
+                    }
+                    return null;
+                }));
+            }
+            ready.await();
+            final long startNS = System.nanoTime();
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            final long durationNS = System.nanoTime() - startNS;
+            return NANOS_IN_A_SECOND * threads * iterations / durationNS;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private void report(final String nm, final String name, final List<Scaling> objectScaling, final List<Scaling> smileScaling) {
+        for (int i = 0; i < objectScaling.size(); i++) {
+            final Scaling object = objectScaling.get(i);
+            final Scaling smile = smileScaling.get(i);
+            System.out.printf("%-12s %12s(ops/s) threads=%-3d ObjectMapper=%-,10d (%6.2f%%) SmileMapper=%-,10d (%6.2f%%) %6.2f%%%n",
+                    nm, name, object.threads(),
+                    object.opsPerSecond(), 100d * object.efficiency(objectScaling.get(0)),
+                    smile.opsPerSecond(), 100d * smile.efficiency(smileScaling.get(0)),
+                    100d * ((double) smile.opsPerSecond()) / ((double) object.opsPerSecond()));
+        }
+    }
+}
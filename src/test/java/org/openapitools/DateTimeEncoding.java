@@ -0,0 +1,199 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+
+/**
+ * Wire forms for the {@code java.time} types of the model, {@code Pet.createdOn} and {@code Pet.lastModifiedOn}.
+ * {@link #ISO} is the ISO-8601 text written by {@code JavaTimeModule} with {@code WRITE_DATES_AS_TIMESTAMPS} off.
+ * <ul>
+ * <li>{@link #NUMERIC} writes an {@link OffsetDateTime} as the array {@code [epochSecond, nano, offsetSeconds]}, which
+ * Smile stores as three variable-length integers.</li>
+ * <li>{@link #BINARY} writes it as one 16-byte binary value: epoch second, nano and offset seconds, big-endian. Smile
+ * writes it raw with {@link SmileProfile#RAW_BINARY} and 7-bit encoded otherwise; JSON writes Base64.</li>
+ * </ul>
+ * Both write a {@link LocalDate} as its epoch day, a single small integer, and both still read the ISO form, so data
+ * written before switching stays readable. Register {@link #module()} after the standard configuration.
+ */
+public enum DateTimeEncoding {
+    ISO("ISO", null),
+    NUMERIC("NUM", () -> module(new NumericOffsetDateTimeSerializer(), new NumericOffsetDateTimeDeserializer())),
+    BINARY("BIN", () -> module(new BinaryOffsetDateTimeSerializer(), new BinaryOffsetDateTimeDeserializer()));
+
+    private static final int BINARY_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final String label;
+
+    private final Supplier<Module> moduleSupplier;
+
+    DateTimeEncoding(final String label, final Supplier<Module> moduleSupplier) {
+        this.label = label;
+        this.moduleSupplier = moduleSupplier;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public Module module() {
+        return moduleSupplier == null ? null : moduleSupplier.get();
+    }
+
+    private static Module module(final StdScalarSerializer<OffsetDateTime> serializer,
+                                 final StdScalarDeserializer<OffsetDateTime> deserializer) {
+        return new SimpleModule("DateTimeEncoding")
+                .addSerializer(OffsetDateTime.class, serializer)
+                .addDeserializer(OffsetDateTime.class, deserializer)
+                .addSerializer(LocalDate.class, new EpochDaySerializer())
+                .addDeserializer(LocalDate.class, new EpochDayDeserializer());
+    }
+
+    private static OffsetDateTime offsetDateTime(final long epochSecond, final int nano, final int offsetSeconds) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    private static final class NumericOffsetDateTimeSerializer extends StdScalarSerializer<OffsetDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        NumericOffsetDateTimeSerializer() {
+            super(OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final OffsetDateTime value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeStartArray(value, 3);
+            gen.writeNumber(value.toEpochSecond());
+            gen.writeNumber(value.getNano());
+            gen.writeNumber(value.getOffset().getTotalSeconds());
+            gen.writeEndArray();
+        }
+    }
+
+    private static final class NumericOffsetDateTimeDeserializer extends StdScalarDeserializer<OffsetDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        NumericOffsetDateTimeDeserializer() {
+            super(OffsetDateTime.class);
+        }
+
+        @Override
+        public OffsetDateTime deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return OffsetDateTime.parse(p.getText());
+            }
+            if (!p.isExpectedStartArrayToken()) {
+                return (OffsetDateTime) ctxt.handleUnexpectedToken(OffsetDateTime.class, p);
+            }
+            final long epochSecond = nextLong(p, ctxt);
+            final int nano = (int) nextLong(p, ctxt);
+            final int offsetSeconds = (int) nextLong(p, ctxt);
+            if (p.nextToken() != JsonToken.END_ARRAY) {
+                ctxt.reportWrongTokenException(OffsetDateTime.class, JsonToken.END_ARRAY, "Expected [epochSecond, nano, offsetSeconds]");
+            }
+            return offsetDateTime(epochSecond, nano, offsetSeconds);
+        }
+
+        private static long nextLong(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (p.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                ctxt.reportWrongTokenException(OffsetDateTime.class, JsonToken.VALUE_NUMBER_INT, "Expected [epochSecond, nano, offsetSeconds]");
+            }
+            return p.getLongValue();
+        }
+    }
+
+    private static final class BinaryOffsetDateTimeSerializer extends StdScalarSerializer<OffsetDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        BinaryOffsetDateTimeSerializer() {
+            super(OffsetDateTime.class);
+        }
+
+        @Override
+        public void serialize(final OffsetDateTime value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            final byte[] bytes = ByteBuffer.allocate(BINARY_SIZE)
+                    .putLong(value.toEpochSecond())
+                    .putInt(value.getNano())
+                    .putInt(value.getOffset().getTotalSeconds())
+                    .array();
+            gen.writeBinary(bytes);
+        }
+    }
+
+    private static final class BinaryOffsetDateTimeDeserializer extends StdScalarDeserializer<OffsetDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        BinaryOffsetDateTimeDeserializer() {
+            super(OffsetDateTime.class);
+        }
+
+        @Override
+        public OffsetDateTime deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            // Base64 has no ':', every ISO date-time has one
+            if (p.hasToken(JsonToken.VALUE_STRING) && p.getText().indexOf(':') >= 0) {
+                return OffsetDateTime.parse(p.getText());
+            }
+            if (!p.hasToken(JsonToken.VALUE_STRING) && !p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+                return (OffsetDateTime) ctxt.handleUnexpectedToken(OffsetDateTime.class, p);
+            }
+            final byte[] bytes = p.getBinaryValue();
+            if (bytes.length != BINARY_SIZE) {
+                return ctxt.reportInputMismatch(this, "Expected %d bytes, got %d", BINARY_SIZE, bytes.length);
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return offsetDateTime(buffer.getLong(), buffer.getInt(), buffer.getInt());
+        }
+    }
+
+    private static final class EpochDaySerializer extends StdScalarSerializer<LocalDate> {
+
+        private static final long serialVersionUID = 1L;
+
+        EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(final LocalDate value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+
+    private static final class EpochDayDeserializer extends StdScalarDeserializer<LocalDate> {
+
+        private static final long serialVersionUID = 1L;
+
+        EpochDayDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return LocalDate.ofEpochDay(p.getLongValue());
+            }
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return LocalDate.parse(p.getText());
+            }
+            return (LocalDate) ctxt.handleUnexpectedToken(LocalDate.class, p);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DateTimeEncodingTest {
+
+    private static final Pet[] PET = new PetMaker(new Random(PetMaker.SEED)).createPets();
+
+    private static final int WARM_ITERATIONS = 20_000;
+
+    private static final int RECORD_ITERATIONS = 100_000;
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testRoundTrip(final Format format) throws Exception {
+        final List<Pet> corpus = PetCorpus.generate(new PetCorpus.Config(200, PetMaker.SEED, 5, 2.0, 3, 0.2, 0.2));
+        final ObjectMapper iso = mapper(format, DateTimeEncoding.ISO, false);
+        final OffsetDateTime offset = OffsetDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_789, ZoneOffset.ofHoursMinutes(5, 45));
+        for (final DateTimeEncoding encoding : DateTimeEncoding.values()) {
+            for (final boolean rawBinary : new boolean[]{false, true}) {
+                final ObjectMapper objectMapper = mapper(format, encoding, rawBinary);
+                for (final Pet pet : corpus) {
+                    assertEquals(pet, objectMapper.readValue(objectMapper.writeValueAsBytes(pet), Pet.class));
+                    // ISO written before switching still reads
+                    assertEquals(pet, objectMapper.readValue(iso.writeValueAsBytes(pet), Pet.class));
+                }
+                if (encoding != DateTimeEncoding.ISO) {
+                    // ISO adjusts to UTC on read, the compact forms keep the offset
+                    assertEquals(offset, objectMapper.readValue(objectMapper.writeValueAsBytes(offset), OffsetDateTime.class));
+                    assertEquals(LocalDate.MIN, objectMapper.readValue(objectMapper.writeValueAsBytes(LocalDate.MIN), LocalDate.class));
+                }
+            }
+        }
+    }
+
+    /**
+     * Size and speed of each encoding for a lone {@link OffsetDateTime} and for PET[0], which has no tags so its dates
+     * are a large share of the message. Smile uses raw binary for {@link DateTimeEncoding#BINARY}. Each percentage is
+     * relative to ISO.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testEncodingSpeed(final Format format) throws Exception {
+        final Pet pet = PET[0];
+        System.out.printf("%n%nDateTimeEncoding:%s%n", format.label());
+        System.out.printf("%-20s %-22s %-26s %-26s%n", format.label(), "Bytes", "Serialize(ops/s)", "DeSerialize(ops/s)");
+        report(format, "createdOn", pet.getCreatedOn(), OffsetDateTime.class);
+        report(format, "0/" + pet.getTags().size(), pet, Pet.class);
+    }
+
+    private static void report(final Format format, final String nm, final Object value, final Class<?> type) throws Exception {
+        long isoBytes = 0;
+        long isoSerialize = 0;
+        long isoDeserialize = 0;
+        for (final DateTimeEncoding encoding : DateTimeEncoding.values()) {
+            final ObjectMapper objectMapper = mapper(format, encoding, true);
+            final byte[] bytes = objectMapper.writeValueAsBytes(value);
+            final long serialize = measure(() -> objectMapper.writeValueAsBytes(value));
+            final long deserialize = measure(() -> objectMapper.readValue(bytes, type));
+            if (encoding == DateTimeEncoding.ISO) {
+                isoBytes = bytes.length;
+                isoSerialize = serialize;
+                isoDeserialize = deserialize;
+            }
+            System.out.printf("%-20s %-,10d %9.2f%%  %-,14d %9.2f%%  %-,14d %9.2f%%%n", nm + "/" + encoding.label(),
+                    bytes.length, 100d * bytes.length / isoBytes, serialize, 100d * serialize / isoSerialize,
+                    deserialize, 100d * deserialize / isoDeserialize);
+        }
+    }
+
+    private static ObjectMapper mapper(final Format format, final DateTimeEncoding encoding, final boolean rawBinary) {
+        final ObjectMapper objectMapper = Mappers.configure(format == Format.SMILE && rawBinary
+                ? SmileProfile.RAW_BINARY.mapper() : format.mapper(), Optimizer.NONE);
+        final Module module = encoding.module();
+        if (module != null) {
+            objectMapper.registerModule(module);
+        }
+        return objectMapper;
+    }
+
+    private static long measure(final Measure.Operation operation) throws Exception {
+        return Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, operation).opsPerSecond();
+    }
+}
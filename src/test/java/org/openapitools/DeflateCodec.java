@@ -0,0 +1,196 @@
+package org.openapitools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Raw Deflate (no gzip or zlib framing) at a chosen level, optionally primed with a preset dictionary so that even a
+ * small message can back-reference field names and common values. {@link Deflater} and {@link Inflater} hold native
+ * zlib state that is expensive to set up, so they are pooled and reset between messages rather than created for each
+ * one the way a {@code GZIPOutputStream} is. Instances are thread-safe.
+ */
+public final class DeflateCodec {
+
+    /**
+     * Deflate can only reference the last 32 KiB, so a longer dictionary is wasted.
+     */
+    public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private static final int DMER_LENGTH = Long.BYTES;
+
+    private static final int SEGMENT_LENGTH = 64;
+
+    private static final byte[] PADDING = new byte[1];
+
+    private final int level;
+
+    private final byte[] dictionary;
+
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+
+    public DeflateCodec(final int level) {
+        this(level, null);
+    }
+
+    /**
+     * @param level      {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}, or {@link Deflater#DEFAULT_COMPRESSION}
+     * @param dictionary preset dictionary shared by both ends, or {@code null}
+     */
+    public DeflateCodec(final int level, final byte[] dictionary) {
+        if (dictionary != null && dictionary.length > MAX_DICTIONARY_SIZE) {
+            throw new IllegalArgumentException("dictionary is " + dictionary.length + " bytes, at most " + MAX_DICTIONARY_SIZE + " are usable");
+        }
+        this.level = level;
+        this.dictionary = dictionary;
+    }
+
+    public byte[] compress(final byte[] bytes) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level, true);
+        }
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(bytes);
+            deflater.finish();
+            byte[] out = new byte[bytes.length / 2 + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, 2 * out.length);
+                }
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.reset();
+            deflaters.offer(deflater);
+        }
+    }
+
+    public byte[] decompress(final byte[] bytes) throws ZipException {
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            // raw streams carry no dictionary id, so the dictionary goes in before the first inflate
+            if (dictionary != null) {
+                inflater.setDictionary(dictionary);
+            }
+            inflater.setInput(bytes);
+            byte[] out = new byte[4 * bytes.length + 64];
+            int length = 0;
+            boolean padded = false;
+            while (!inflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, 2 * out.length);
+                }
+                final int inflated = inflater.inflate(out, length, out.length - length);
+                if (inflated == 0 && inflater.needsInput()) {
+                    if (padded) {
+                        throw new ZipException("Truncated Deflate stream");
+                    }
+                    // zlib may want one byte past the end of a raw stream before it reports it finished
+                    inflater.setInput(PADDING);
+                    padded = true;
+                }
+                length += inflated;
+            }
+            return Arrays.copyOf(out, length);
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        } finally {
+            inflater.reset();
+            inflaters.offer(inflater);
+        }
+    }
+
+    /**
+     * Builds a dictionary of at most {@code size} bytes from sample messages, after the COVER algorithm: every
+     * 8-byte substring (dmer) is scored by how many samples contain it, the concatenated samples are cut into
+     * {@code size / 64} epochs, and from each epoch the 64-byte segment whose dmers score highest is kept. Dmers
+     * already covered drop to zero so later segments add new content. The best segments go last, where Deflate
+     * reaches them with the shortest distances.
+     */
+    public static byte[] train(final Collection<byte[]> samples, final int size) {
+        final Map<Long, Integer> frequencies = new HashMap<>();
+        int corpusLength = 0;
+        for (final byte[] sample : samples) {
+            final Set<Long> seen = new HashSet<>();
+            for (int i = 0; i + DMER_LENGTH <= sample.length; i++) {
+                final long dmer = dmer(sample, i);
+                if (seen.add(dmer)) {
+                    frequencies.merge(dmer, 1, Integer::sum);
+                }
+            }
+            corpusLength += sample.length;
+        }
+        final byte[] corpus = new byte[corpusLength];
+        int offset = 0;
+        for (final byte[] sample : samples) {
+            System.arraycopy(sample, 0, corpus, offset, sample.length);
+            offset += sample.length;
+        }
+
+        record Segment(int start, long score) {
+        }
+        final List<Segment> segments = new ArrayList<>();
+        final int limit = Math.min(size, MAX_DICTIONARY_SIZE);
+        final int epochLength = Math.max(SEGMENT_LENGTH, corpus.length / Math.max(1, limit / SEGMENT_LENGTH));
+        final int dmersPerSegment = SEGMENT_LENGTH - DMER_LENGTH + 1;
+        for (int epoch = 0; epoch + SEGMENT_LENGTH <= corpus.length && SEGMENT_LENGTH * segments.size() < limit; epoch += epochLength) {
+            final int last = Math.min(epoch + epochLength, corpus.length) - SEGMENT_LENGTH;
+            long score = 0;
+            for (int i = 0; i < dmersPerSegment; i++) {
+                score += frequencies.getOrDefault(dmer(corpus, epoch + i), 0);
+            }
+            Segment best = new Segment(epoch, score);
+            for (int start = epoch + 1; start <= last; start++) {
+                score += frequencies.getOrDefault(dmer(corpus, start + dmersPerSegment - 1), 0)
+                        - frequencies.getOrDefault(dmer(corpus, start - 1), 0);
+                if (score > best.score()) {
+                    best = new Segment(start, score);
+                }
+            }
+            if (best.score() > 0) {
+                segments.add(best);
+                for (int i = 0; i < dmersPerSegment; i++) {
+                    frequencies.remove(dmer(corpus, best.start() + i));
+                }
+            }
+        }
+
+        segments.sort(Comparator.comparingLong(Segment::score));
+        final byte[] dictionary = new byte[SEGMENT_LENGTH * segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            System.arraycopy(corpus, segments.get(i).start(), dictionary, SEGMENT_LENGTH * i, SEGMENT_LENGTH);
+        }
+        return dictionary;
+    }
+
+    private static long dmer(final byte[] bytes, final int offset) {
+        long dmer = 0;
+        for (int i = 0; i < DMER_LENGTH; i++) {
+            dmer = (dmer << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return dmer;
+    }
+}
@@ -0,0 +1,441 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+import com.fasterxml.jackson.databind.type.ReferenceType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Direct (de)serializers for {@code JsonNullable} of an enum, {@link LocalDate} or {@code String}, registered on top of
+ * {@link JsonNullableModule}, which still provides the reference type and skips undefined properties.
+ * <p>
+ * The stock path resolves the content (de)serializer on each value and goes through it. Here it is resolved once,
+ * and where it is the default one for the type the value is handled inline:
+ * <ul>
+ * <li>an enum is written from its precomputed {@link SerializedString}, and read by matching the parser's characters
+ * against the precomputed names, bucketed by length, so JSON builds no {@code String}; Smile, which has one already
+ * (see {@link TokenText}), uses a hash lookup instead. A name is only precomputed if the content deserializer maps it
+ * back to its constant, so {@code @JsonValue} and {@code @JsonCreator} are honoured; anything else goes to the
+ * content deserializer;</li>
+ * <li>a {@link LocalDate} in {@code yyyy-MM-dd} form is written with {@code toString()} and parsed digit by digit
+ * instead of through a {@code DateTimeFormatter};</li>
+ * <li>a {@code String} is written and read as is.</li>
+ * </ul>
+ * As with the stock module, a blank string reads as undefined unless the content is a {@code String}, and
+ * {@code null} reads as {@code JsonNullable.of(null)}. Polymorphic content is left to the stock module.
+ */
+public final class FastNullableModule extends Module {
+
+    /**
+     * Probe for whether the content (de)serializer of a {@link LocalDate} uses the ISO form that is handled inline; a
+     * configured pattern or shape writes or accepts something else.
+     */
+    private static final LocalDate SAMPLE_DATE = LocalDate.of(2024, 2, 29);
+
+    @Override
+    public String getModuleName() {
+        return "FastNullableModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findReferenceSerializer(final SerializationConfig config, final ReferenceType type,
+                                                             final BeanDescription beanDesc, final TypeSerializer contentTypeSerializer,
+                                                             final JsonSerializer<Object> contentValueSerializer) {
+                return supported(type) && contentTypeSerializer == null && contentValueSerializer == null
+                        ? new NullableSerializer(type.getContentType(), null) : null;
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findReferenceDeserializer(final ReferenceType type, final DeserializationConfig config,
+                                                                 final BeanDescription beanDesc, final TypeDeserializer contentTypeDeserializer,
+                                                                 final JsonDeserializer<?> contentDeserializer) {
+                return supported(type) && contentTypeDeserializer == null && contentDeserializer == null
+                        ? new NullableDeserializer(type, null) : null;
+            }
+        });
+    }
+
+    /**
+     * Whether {@code content} reads {@code text} as {@code expected}, fed from a buffer since there is no parser to
+     * buffer from when an {@code ObjectReader} prefetches this.
+     */
+    private static boolean accepts(final DeserializationContext ctxt, final JsonDeserializer<Object> content, final String text,
+                                   final Object expected) throws JsonMappingException {
+        final TokenBuffer buffer = new TokenBuffer(null, false);
+        try (JsonParser parser = parser(buffer, text)) {
+            return expected.equals(content.deserialize(parser, ctxt));
+        } catch (JsonMappingException e) {
+            return false;
+        } catch (IOException e) {
+            throw JsonMappingException.from(ctxt, "Cannot deserialize " + text, e);
+        }
+    }
+
+    private static JsonParser parser(final TokenBuffer buffer, final String text) throws IOException {
+        buffer.writeString(text);
+        return buffer.asParserOnFirstToken();
+    }
+
+    private static boolean supported(final ReferenceType type) {
+        final JavaType content = type.getContentType();
+        return type.hasRawClass(JsonNullable.class)
+                && (content.isEnumType() || content.hasRawClass(LocalDate.class) || content.hasRawClass(String.class));
+    }
+
+    private static final class NullableSerializer extends StdSerializer<JsonNullable<?>> implements ContextualSerializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JavaType contentType;
+
+        private final JsonSerializer<Object> content;
+
+        /**
+         * Serialized form of each enum constant by ordinal, or {@code null} to use {@link #content}.
+         */
+        private final SerializableString[] enumNames;
+
+        private final boolean inline;
+
+        NullableSerializer(final JavaType contentType, final JsonSerializer<Object> content) {
+            this(contentType, content, null, false);
+        }
+
+        private NullableSerializer(final JavaType contentType, final JsonSerializer<Object> content,
+                                   final SerializableString[] enumNames, final boolean inline) {
+            super(JsonNullable.class, false);
+            this.contentType = contentType;
+            this.content = content;
+            this.enumNames = enumNames;
+            this.inline = inline;
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(final SerializerProvider provider, final BeanProperty property) throws JsonMappingException {
+            final JsonSerializer<Object> resolved = provider.findValueSerializer(contentType, property);
+            if (contentType.isEnumType()) {
+                return new NullableSerializer(contentType, resolved, enumNames(provider, resolved), false);
+            }
+            final boolean inline = contentType.hasRawClass(String.class)
+                    ? resolved instanceof StringSerializer
+                    : SAMPLE_DATE.toString().equals(written(provider, resolved, SAMPLE_DATE));
+            return new NullableSerializer(contentType, resolved, null, inline);
+        }
+
+        /**
+         * What {@code content} writes for each constant, if that is always a plain string.
+         */
+        private SerializableString[] enumNames(final SerializerProvider provider, final JsonSerializer<Object> content) throws JsonMappingException {
+            final Object[] constants = contentType.getRawClass().getEnumConstants();
+            final SerializableString[] names = new SerializableString[constants.length];
+            for (final Object constant : constants) {
+                final String name = written(provider, content, constant);
+                if (name == null) {
+                    return null;
+                }
+                names[((Enum<?>) constant).ordinal()] = new SerializedString(name);
+            }
+            return names;
+        }
+
+        /**
+         * The string {@code content} writes for {@code value}, or {@code null} if it writes anything else.
+         */
+        private static String written(final SerializerProvider provider, final JsonSerializer<Object> content, final Object value)
+                throws JsonMappingException {
+            final TokenBuffer buffer = new TokenBuffer(null, false);
+            try (JsonParser parser = buffer.asParser()) {
+                content.serialize(value, buffer, provider);
+                return parser.nextToken() == JsonToken.VALUE_STRING && parser.nextToken() == null ? parser.getText() : null;
+            } catch (JsonMappingException e) {
+                throw e;
+            } catch (IOException e) {
+                throw JsonMappingException.from(provider, "Cannot serialize " + value, e);
+            }
+        }
+
+        @Override
+        public boolean isEmpty(final SerializerProvider provider, final JsonNullable<?> value) {
+            return value == null || !value.isPresent();
+        }
+
+        @Override
+        public void serialize(final JsonNullable<?> value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            final Object contained = value.isPresent() ? value.get() : null;
+            if (contained == null) {
+                provider.defaultSerializeNull(gen);
+            } else if (enumNames != null) {
+                gen.writeString(enumNames[((Enum<?>) contained).ordinal()]);
+            } else if (inline) {
+                gen.writeString(contained.toString());
+            } else {
+                content.serialize(contained, gen, provider);
+            }
+        }
+    }
+
+    private static final class NullableDeserializer extends StdDeserializer<JsonNullable<Object>> implements ContextualDeserializer, TokenText.Visitor<Void, JsonNullable<Object>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JsonDeserializer<Object> content;
+
+        private final EnumLookup enumLookup;
+
+        private final boolean inlineString;
+
+        private final boolean inlineDate;
+
+        /**
+         * Whether a blank string reads as undefined, which the stock module does for every content type but
+         * {@code String}.
+         */
+        private final boolean blankIsUndefined;
+
+        NullableDeserializer(final JavaType type, final JsonDeserializer<Object> content) {
+            this(type, content, null, false, false);
+        }
+
+        private NullableDeserializer(final JavaType type, final JsonDeserializer<Object> content, final EnumLookup enumLookup,
+                                     final boolean inlineString, final boolean inlineDate) {
+            super(type);
+            this.content = content;
+            this.enumLookup = enumLookup;
+            this.inlineString = inlineString;
+            this.inlineDate = inlineDate;
+            this.blankIsUndefined = !type.getContentType().hasRawClass(String.class);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property) throws JsonMappingException {
+            final JavaType contentType = getValueType().getContentType();
+            final JsonDeserializer<Object> resolved = ctxt.findContextualValueDeserializer(contentType, property);
+            return new NullableDeserializer(getValueType(), resolved,
+                    contentType.isEnumType() ? EnumLookup.of(ctxt, contentType.getRawClass(), resolved) : null,
+                    resolved.getClass() == StringDeserializer.class,
+                    contentType.hasRawClass(LocalDate.class) && accepts(ctxt, resolved, SAMPLE_DATE.toString(), SAMPLE_DATE));
+        }
+
+        @Override
+        public JsonNullable<Object> getNullValue(final DeserializationContext ctxt) {
+            return JsonNullable.of(null);
+        }
+
+        @Override
+        public Object getAbsentValue(final DeserializationContext ctxt) {
+            return JsonNullable.undefined();
+        }
+
+        @Override
+        public Object getEmptyValue(final DeserializationContext ctxt) {
+            return JsonNullable.undefined();
+        }
+
+        @Override
+        public JsonNullable<Object> deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                return JsonNullable.of(content.deserialize(p, ctxt));
+            }
+            final JsonNullable<Object> inline = TokenText.visit(p, this, null);
+            return inline != null ? inline : JsonNullable.of(content.deserialize(p, ctxt));
+        }
+
+        /**
+         * @return the value read inline, or {@code null} to leave it to the content deserializer
+         */
+        @Override
+        public JsonNullable<Object> chars(final char[] chars, final int offset, final int length, final Void context) {
+            if (blankIsUndefined && isBlank(chars, offset, length)) {
+                return JsonNullable.undefined();
+            }
+            Object value = null;
+            if (enumLookup != null) {
+                value = enumLookup.find(chars, offset, length);
+            } else if (inlineDate) {
+                value = parseDate(chars, offset, length);
+            } else if (inlineString) {
+                value = new String(chars, offset, length);
+            }
+            return value != null ? JsonNullable.of(value) : null;
+        }
+
+        @Override
+        public JsonNullable<Object> string(final String text, final Void context) {
+            if (blankIsUndefined && text.trim().isEmpty()) {
+                return JsonNullable.undefined();
+            }
+            Object value = null;
+            if (enumLookup != null) {
+                value = enumLookup.find(text);
+            } else if (inlineDate) {
+                value = parseDate(text.toCharArray(), 0, text.length());
+            } else if (inlineString) {
+                value = text;
+            }
+            return value != null ? JsonNullable.of(value) : null;
+        }
+
+        /**
+         * Same test as {@code String.trim().isEmpty()}.
+         */
+        private static boolean isBlank(final char[] chars, final int offset, final int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (chars[i] > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * {@code yyyy-MM-dd}, or {@code null} for anything else, which the content deserializer then handles.
+         */
+        private static LocalDate parseDate(final char[] chars, final int offset, final int length) {
+            if (length != 10 || chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+                return null;
+            }
+            final int year = digits(chars, offset, 4);
+            final int month = digits(chars, offset + 5, 2);
+            final int day = digits(chars, offset + 8, 2);
+            if (year < 0 || month < 0 || day < 0) {
+                return null;
+            }
+            try {
+                return LocalDate.of(year, month, day);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private static int digits(final char[] chars, final int offset, final int count) {
+            int value = 0;
+            for (int i = offset; i < offset + count; i++) {
+                final int digit = chars[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Enum constants by the name their deserializer accepts. Names are bucketed by length and compared character by
+     * character, so a lookup on the parser's buffer needs no {@code String}; enums are small, so a bucket is a short
+     * scan.
+     */
+    private static final class EnumLookup {
+
+        private final char[][][] namesByLength;
+
+        private final Object[][] constantsByLength;
+
+        private final Map<String, Object> byName;
+
+        private EnumLookup(final Map<String, Object> byName) {
+            this.byName = byName;
+            int maxLength = 0;
+            for (final String name : byName.keySet()) {
+                maxLength = Math.max(maxLength, name.length());
+            }
+            namesByLength = new char[maxLength + 1][][];
+            constantsByLength = new Object[maxLength + 1][];
+            for (int length = 0; length <= maxLength; length++) {
+                final int size = length;
+                final String[] names = byName.keySet().stream().filter(name -> name.length() == size).toArray(String[]::new);
+                namesByLength[length] = new char[names.length][];
+                constantsByLength[length] = new Object[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    namesByLength[length][i] = names[i].toCharArray();
+                    constantsByLength[length][i] = byName.get(names[i]);
+                }
+            }
+        }
+
+        /**
+         * Lookup over the names of the constants, by {@code @JsonValue} if there is one and by constant name otherwise,
+         * keeping only the names {@code content} maps back to their own constant.
+         */
+        static EnumLookup of(final DeserializationContext ctxt, final Class<?> type, final JsonDeserializer<Object> content) throws JsonMappingException {
+            final AnnotatedMember jsonValue = ctxt.getConfig().introspect(ctxt.constructType(type)).findJsonValueAccessor();
+            final Map<String, Object> byName = new HashMap<>();
+            for (final Object constant : type.getEnumConstants()) {
+                final Object name = jsonValue != null ? jsonValue.getValue(constant) : ((Enum<?>) constant).name();
+                if (name instanceof String text && accepts(ctxt, content, text, constant)) {
+                    byName.put(text, constant);
+                }
+            }
+            return new EnumLookup(byName);
+        }
+
+        Object find(final char[] chars, final int offset, final int length) {
+            if (length >= namesByLength.length) {
+                return null;
+            }
+            final char[][] names = namesByLength[length];
+            for (int i = 0; i < names.length; i++) {
+                if (matches(names[i], chars, offset)) {
+                    return constantsByLength[length][i];
+                }
+            }
+            return null;
+        }
+
+        Object find(final String text) {
+            return byName.get(text);
+        }
+
+        private static boolean matches(final char[] name, final char[] chars, final int offset) {
+            for (int i = 0; i < name.length; i++) {
+                if (name[i] != chars[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
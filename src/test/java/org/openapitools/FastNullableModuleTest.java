@@ -0,0 +1,163 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Pet;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FastNullableModuleTest {
+
+    /**
+     * Pets without tags or photos and with every nullable set, so the nullable fields are a large share of the work.
+     */
+    private static final PetCorpus.Config CONFIG = new PetCorpus.Config(1_000, PetMaker.SEED, 0, 1.0, 0, 0.0, 0.0);
+
+    private static final int WARM_ITERATIONS = 50;
+
+    private static final int RECORD_ITERATIONS = 200;
+
+    private static final List<String> VARIANTS = List.of("stock", "fast");
+
+    static final class Nickname {
+
+        public JsonNullable<String> nickname = JsonNullable.undefined();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testRoundTrip(final Format format) throws Exception {
+        final ObjectMapper stock = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectMapper fast = Mappers.configure(format.mapper(), Optimizer.NONE).registerModule(new FastNullableModule());
+        for (final Pet pet : PetCorpus.generate(new PetCorpus.Config(200, PetMaker.SEED, 3, 1.0, 2, 0.3, 0.3))) {
+            final byte[] bytes = stock.writeValueAsBytes(pet);
+            assertArrayEquals(bytes, fast.writeValueAsBytes(pet));
+            assertEquals(pet, fast.readValue(bytes, Pet.class));
+        }
+    }
+
+    /**
+     * Edge cases read the same as with the stock module.
+     */
+    @Test
+    void testStockBehaviour() throws Exception {
+        final ObjectMapper stock = Mappers.configure(Format.JSON.mapper(), Optimizer.NONE);
+        final ObjectMapper fast = Mappers.configure(Format.JSON.mapper(), Optimizer.NONE).registerModule(new FastNullableModule());
+        for (final String json : List.of(
+                "{\"status\":\"sold\",\"lastModifiedOn\":\"2024-02-29\"}",
+                "{\"status\":null,\"lastModifiedOn\":null}",
+                "{\"status\":\" \",\"lastModifiedOn\":\"\"}",
+                "{\"status\":\"lost\"}",
+                "{\"status\":\"SOLD\"}",
+                "{\"lastModifiedOn\":\"+12024-02-29\"}",
+                "{\"lastModifiedOn\":\"2024-02-29T10:15:30\"}",
+                "{}")) {
+            assertEquals(stock.readValue(json, Pet.class), fast.readValue(json, Pet.class), json);
+        }
+        assertThrows(InvalidFormatException.class, () -> stock.readValue("{\"lastModifiedOn\":\"2023-02-29\"}", Pet.class));
+        assertThrows(InvalidFormatException.class, () -> fast.readValue("{\"lastModifiedOn\":\"2023-02-29\"}", Pet.class));
+    }
+
+    /**
+     * A blank {@code String} is a value of its own and not undefined, as with the stock module.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testBlankString(final Format format) throws Exception {
+        final ObjectMapper stock = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectMapper fast = Mappers.configure(format.mapper(), Optimizer.NONE).registerModule(new FastNullableModule());
+        for (final String text : List.of("", " ", "Rex")) {
+            final Nickname nickname = new Nickname();
+            nickname.nickname = JsonNullable.of(text);
+            final byte[] bytes = stock.writeValueAsBytes(nickname);
+            assertEquals(JsonNullable.of(text), stock.readValue(bytes, Nickname.class).nickname, text);
+            assertEquals(JsonNullable.of(text), fast.readValue(bytes, Nickname.class).nickname, text);
+        }
+    }
+
+    /**
+     * Dates written as timestamps are not ISO strings, so they go through the content serializer.
+     */
+    @Test
+    void testDatesAsTimestamps() throws Exception {
+        final ObjectMapper stock = Mappers.configure(Format.JSON.mapper(), Optimizer.NONE)
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        final ObjectMapper fast = Mappers.configure(Format.JSON.mapper(), Optimizer.NONE).registerModule(new FastNullableModule())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        for (final Pet pet : PetCorpus.generate(new PetCorpus.Config(20, PetMaker.SEED, 1, 1.0, 1, 0.0, 0.0))) {
+            final byte[] bytes = stock.writeValueAsBytes(pet);
+            assertArrayEquals(bytes, fast.writeValueAsBytes(pet));
+            assertEquals(pet, fast.readValue(bytes, Pet.class));
+        }
+    }
+
+    /**
+     * The stock {@code JsonNullableModule} path against the same configuration plus {@link FastNullableModule}, over a
+     * batch of pets dominated by their nullable fields. Each percentage is relative to stock.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testNullableSpeed(final Format format) throws Exception {
+        final List<Pet> pets = PetCorpus.load(CONFIG);
+        final ObjectMapper stock = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectMapper fast = Mappers.configure(format.mapper(), Optimizer.NONE).registerModule(new FastNullableModule());
+        final List<byte[]> messages = new ArrayList<>(pets.size());
+        for (final Pet pet : pets) {
+            messages.add(stock.writeValueAsBytes(pet));
+        }
+        // one untimed pass over all four first, so that neither side is measured while the other is still compiling
+        for (final ObjectMapper objectMapper : List.of(stock, fast)) {
+            measure(pets.size(), () -> write(objectMapper.writerFor(Pet.class), pets));
+            measure(pets.size(), () -> read(objectMapper.readerFor(Pet.class), messages));
+        }
+        final Measure.Measurement stockWrite = measure(pets.size(), () -> write(stock.writerFor(Pet.class), pets));
+        final Measure.Measurement fastWrite = measure(pets.size(), () -> write(fast.writerFor(Pet.class), pets));
+        final Measure.Measurement stockRead = measure(pets.size(), () -> read(stock.readerFor(Pet.class), messages));
+        final Measure.Measurement fastRead = measure(pets.size(), () -> read(fast.readerFor(Pet.class), messages));
+        final String nm = format.label() + ":" + pets.size();
+        System.out.printf("%n%nFastNullable:%s%n", nm);
+        Measure.report(nm, "Serialize(records/s)", VARIANTS, stockWrite.opsPerSecond(), fastWrite.opsPerSecond());
+        Measure.report(nm, "Serialize(alloc/rec)", VARIANTS, stockWrite.allocatedBytesPerOp(), fastWrite.allocatedBytesPerOp());
+        Measure.report(nm, "DeSerialize(records/s)", VARIANTS, stockRead.opsPerSecond(), fastRead.opsPerSecond());
+        Measure.report(nm, "DeSerialize(alloc/rec)", VARIANTS, stockRead.allocatedBytesPerOp(), fastRead.allocatedBytesPerOp());
+    }
+
+    /**
+     * @return the bytes written
+     */
+    private static long write(final ObjectWriter writer, final List<Pet> pets) throws IOException {
+        long bytes = 0;
+        for (final Pet pet : pets) {
+            bytes += writer.writeValueAsBytes(pet).length;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the last pet read
+     */
+    private static Pet read(final ObjectReader reader, final List<byte[]> messages) throws IOException {
+        Pet pet = null;
+        for (final byte[] message : messages) {
+            pet = reader.readValue(message);
+        }
+        return pet;
+    }
+
+    private static Measure.Measurement measure(final int records, final Measure.Operation operation) throws Exception {
+        return Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, records, operation);
+    }
+}
@@ -0,0 +1,36 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+
+import java.util.function.Supplier;
+
+/**
+ * Data formats the harness can compare. Registering another {@link ObjectMapper} subclass here adds it to every
+ * N-way comparison; the first constant is the baseline the others are reported against.
+ */
+public enum Format {
+    JSON("ObjectMapper", ObjectMapper::new),
+    SMILE("SmileMapper", SmileMapper::new),
+    YAML("YAMLMapper", YAMLMapper::new),
+    XML("XmlMapper", XmlMapper::new);
+
+    private final String label;
+
+    private final Supplier<ObjectMapper> mapperSupplier;
+
+    Format(final String label, final Supplier<ObjectMapper> mapperSupplier) {
+        this.label = label;
+        this.mapperSupplier = mapperSupplier;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public ObjectMapper mapper() {
+        return mapperSupplier.get();
+    }
+}
@@ -0,0 +1,205 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.dataformat.smile.SmileConstants;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Decodes a stream of root values of one type from bytes that arrive in chunks of any size, for JSON or Smile,
+ * without a thread per connection and without holding on to the bytes of a message. Each chunk is fed to Jackson's
+ * non-blocking parser, and the tokens it yields are appended to a {@link TokenBuffer}; as soon as a root value is
+ * complete, it is bound from that buffer and handed to the sink, so all that is left to do when the last chunk
+ * arrives is its own tokens and the binding.
+ * <p>
+ * Binding needs the whole value, so a message is still held until it is complete, but as parsed tokens, with
+ * property names shared and numbers decoded, rather than as raw bytes. Instances are stateful and must be used by
+ * one thread at a time, typically the one handling the connection's read events.
+ */
+public final class IncrementalDecoder<T> implements Closeable {
+
+    private static final int SCRATCH_SIZE = 8_192;
+
+    private static final OutputStream DISCARD = OutputStream.nullOutputStream();
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectReader reader;
+
+    /**
+     * Whether a Smile header after a root value starts a new document, see {@link #restart(byte[], int, int)}.
+     */
+    private final boolean smile;
+
+    private JsonParser parser;
+
+    private ByteArrayFeeder feeder;
+
+    /**
+     * Whether the last token completed a root value.
+     */
+    private boolean atBoundary;
+
+    /**
+     * Copy of a direct buffer's bytes, which the feeder cannot read in place.
+     */
+    private byte[] scratch;
+
+    /**
+     * Tokens of the root value being assembled, or {@code null} between values.
+     */
+    private TokenBuffer pending;
+
+    private int depth;
+
+    public IncrementalDecoder(final ObjectMapper objectMapper, final Class<T> type) throws IOException {
+        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(type);
+        this.smile = objectMapper.getFactory() instanceof SmileFactory;
+        open();
+    }
+
+    private void open() throws IOException {
+        parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        atBoundary = false;
+    }
+
+    /**
+     * Consumes the remaining bytes of {@code chunk} and passes every value they complete to {@code sink}.
+     *
+     * @return the number of values completed
+     */
+    public int feed(final ByteBuffer chunk, final Consumer<? super T> sink) throws IOException {
+        final int length = chunk.remaining();
+        if (chunk.hasArray()) {
+            final int offset = chunk.arrayOffset() + chunk.position();
+            chunk.position(chunk.limit());
+            return feed(chunk.array(), offset, length, sink);
+        }
+        if (scratch == null || scratch.length < length) {
+            scratch = new byte[Math.max(length, SCRATCH_SIZE)];
+        }
+        chunk.get(scratch, 0, length);
+        return feed(scratch, 0, length, sink);
+    }
+
+    /**
+     * As {@link #feed(ByteBuffer, Consumer)}. The bytes are fully consumed when this returns, so the caller may reuse
+     * the array.
+     */
+    public int feed(final byte[] bytes, final int offset, final int length, final Consumer<? super T> sink) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        restart(bytes, offset, length);
+        feeder.feedInput(bytes, offset, offset + length);
+        int values = 0;
+        while (true) {
+            final int drained = drain(sink);
+            values += drained;
+            // reports, without consuming them, the bytes of this chunk the parser has not got to yet
+            final int unconsumed = parser.releaseBuffered(DISCARD);
+            if (!smile || !atBoundary || unconsumed == 0) {
+                return values;
+            }
+            final int start = offset + length - unconsumed;
+            if (restart(bytes, start, unconsumed)) {
+                feeder.feedInput(bytes, start, offset + length);
+            } else if (drained == 0) {
+                return values;
+            }
+        }
+    }
+
+    /**
+     * Separately written Smile messages each start with a header, but the parser keeps its shared-name table across
+     * one, so a message sent after the first would resolve its back references against names of the messages before
+     * it. When a header follows a root value, the current parser is therefore replaced by a new one, which starts
+     * from that header with empty tables. Values written as one continuous stream have no header between them and
+     * keep their shared tables.
+     *
+     * @return whether the parser was replaced
+     */
+    private boolean restart(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (!smile || !atBoundary || length == 0 || bytes[offset] != SmileConstants.HEADER_BYTE_1) {
+            return false;
+        }
+        parser.close();
+        open();
+        return true;
+    }
+
+    /**
+     * Signals that no more bytes will come, failing if they ended inside a value.
+     *
+     * @return the number of values completed by the end of input, for a JSON number at the very end
+     */
+    public int end(final Consumer<? super T> sink) throws IOException {
+        feeder.endOfInput();
+        int values = 0;
+        int drained;
+        while ((drained = drain(sink)) > 0) {
+            values += drained;
+        }
+        if (pending != null) {
+            throw new IOException("Input ended inside a value, at depth " + depth);
+        }
+        return values;
+    }
+
+    /**
+     * Whether a value has been started but not completed.
+     */
+    public boolean isPartial() {
+        return pending != null;
+    }
+
+    private int drain(final Consumer<? super T> sink) throws IOException {
+        int values = 0;
+        while (true) {
+            final JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.NOT_AVAILABLE) {
+                break;
+            }
+            if (pending == null) {
+                pending = new TokenBuffer(parser);
+            }
+            pending.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            atBoundary = depth == 0 && token != JsonToken.FIELD_NAME;
+            if (atBoundary) {
+                final TokenBuffer value = pending;
+                pending = null;
+                try (JsonParser valueParser = value.asParserOnFirstToken()) {
+                    sink.accept(reader.readValue(valueParser));
+                }
+                values++;
+                if (smile) {
+                    // stop short of the next byte, which may be the header of a new document
+                    break;
+                }
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
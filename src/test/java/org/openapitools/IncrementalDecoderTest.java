@@ -0,0 +1,203 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link IncrementalDecoder} fed {@code PET[2]} in random chunk sizes, against collecting the chunks into one array and
+ * calling {@code readValue} on it. Both see the same chunks; throughput and allocation are per message, and latency
+ * is the time from the last chunk arriving to the {@code Pet} being ready. Each percentage is incremental relative to
+ * buffer-then-parse.
+ */
+class IncrementalDecoderTest {
+
+    private static final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+
+    private static final Pet[] PET = petMaker.createPets();
+
+    /**
+     * Largest chunk, about what one socket read returns.
+     */
+    private static final int MAX_CHUNK = 4_096;
+
+    private static final int WARM_ITERATIONS = 1_000;
+
+    private static final int RECORD_ITERATIONS = 2_000;
+
+    private static final List<String> VARIANTS = List.of("buffered", "incremental");
+
+    @FunctionalInterface
+    interface ChunkedDecode {
+        /**
+         * Decodes one message and returns the nanoseconds spent after its last chunk arrived.
+         */
+        long run() throws Exception;
+    }
+
+    record Timing(Measure.Measurement measurement, long lastChunkMicros) {
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testChunkedRoundTrip(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (final Pet pet : PET) {
+            stream.write(objectMapper.writeValueAsBytes(pet));
+        }
+        final byte[] bytes = stream.toByteArray();
+        final Random random = new Random(PetMaker.SEED);
+        for (final int maxChunk : new int[]{1, 7, MAX_CHUNK, bytes.length}) {
+            for (final boolean direct : new boolean[]{false, true}) {
+                final List<Pet> pets = new ArrayList<>();
+                try (IncrementalDecoder<Pet> decoder = new IncrementalDecoder<>(objectMapper, Pet.class)) {
+                    for (final int[] chunk : chunks(random, bytes.length, maxChunk)) {
+                        final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(chunk[1]) : ByteBuffer.allocate(chunk[1] + 2);
+                        if (!direct) {
+                            // a heap buffer that is a slice of a larger array
+                            buffer.position(1).limit(1 + chunk[1]);
+                        }
+                        buffer.put(bytes, chunk[0], chunk[1]).flip();
+                        if (!direct) {
+                            buffer.position(1);
+                        }
+                        decoder.feed(buffer, pets::add);
+                        assertFalse(buffer.hasRemaining());
+                    }
+                    decoder.end(pets::add);
+                }
+                assertEquals(List.of(PET), pets, format + " chunks up to " + maxChunk + (direct ? " direct" : " heap"));
+            }
+        }
+    }
+
+    /**
+     * One continuous stream, in which Smile sends a single header and shares its tables across values.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testSequenceRoundTrip(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (SequenceWriter sequenceWriter = objectMapper.writerFor(Pet.class).writeValues(stream)) {
+            sequenceWriter.writeAll(PET).writeAll(PET);
+        }
+        final byte[] bytes = stream.toByteArray();
+        final List<Pet> pets = new ArrayList<>();
+        try (IncrementalDecoder<Pet> decoder = new IncrementalDecoder<>(objectMapper, Pet.class)) {
+            for (final int[] chunk : chunks(new Random(PetMaker.SEED), bytes.length, MAX_CHUNK)) {
+                decoder.feed(bytes, chunk[0], chunk[1], pets::add);
+            }
+            decoder.end(pets::add);
+        }
+        assertEquals(List.of(PET[0], PET[1], PET[2], PET[0], PET[1], PET[2]), pets);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testTruncated(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final byte[] bytes = objectMapper.writeValueAsBytes(PET[1]);
+        try (IncrementalDecoder<Pet> decoder = new IncrementalDecoder<>(objectMapper, Pet.class)) {
+            assertEquals(0, decoder.feed(bytes, 0, bytes.length - 1, pet -> { }));
+            assertTrue(decoder.isPartial());
+            assertThrows(IOException.class, () -> decoder.end(pet -> { }));
+        }
+    }
+
+    @Test
+    void testJsonNumberAtEnd() throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(Format.JSON.mapper(), Optimizer.NONE);
+        final List<Long> values = new ArrayList<>();
+        try (IncrementalDecoder<Long> decoder = new IncrementalDecoder<>(objectMapper, Long.class)) {
+            final byte[] bytes = "1 22 333".getBytes();
+            assertEquals(2, decoder.feed(bytes, 0, bytes.length, values::add));
+            assertEquals(1, decoder.end(values::add));
+        }
+        assertEquals(List.of(1L, 22L, 333L), values);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testIncrementalSpeed(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectReader reader = objectMapper.readerFor(Pet.class);
+        final byte[] bytes = objectMapper.writeValueAsBytes(PET[2]);
+        final List<int[]> chunks = chunks(new Random(PetMaker.SEED), bytes.length, MAX_CHUNK);
+        final String nm = format.label() + ":2/" + PET[2].getTags().size();
+        final Pet[] decoded = new Pet[1];
+
+        final Timing buffered = measure(() -> {
+            final ByteArrayOutputStream message = new ByteArrayOutputStream();
+            long lastChunkNS = 0;
+            for (int i = 0; i < chunks.size(); i++) {
+                final int[] chunk = chunks.get(i);
+                final long startNS = System.nanoTime();
+                message.write(bytes, chunk[0], chunk[1]);
+                if (i == chunks.size() - 1) {
+                    decoded[0] = reader.readValue(message.toByteArray());
+                    lastChunkNS = System.nanoTime() - startNS;
+                }
+            }
+            return lastChunkNS;
+        });
+        try (IncrementalDecoder<Pet> decoder = new IncrementalDecoder<>(objectMapper, Pet.class)) {
+            final Timing incremental = measure(() -> {
+                long lastChunkNS = 0;
+                for (int i = 0; i < chunks.size(); i++) {
+                    final int[] chunk = chunks.get(i);
+                    final long startNS = System.nanoTime();
+                    decoder.feed(bytes, chunk[0], chunk[1], pet -> decoded[0] = pet);
+                    lastChunkNS = System.nanoTime() - startNS;
+                }
+                return lastChunkNS;
+            });
+            assertEquals(PET[2], decoded[0]);
+            System.out.printf("%n%nIncremental:%s bytes=%,d chunks=%d%n", nm, bytes.length, chunks.size());
+            Measure.report(nm, "DeSerialize", VARIANTS, buffered.measurement(), incremental.measurement());
+            Measure.report(nm, "LastChunk(us)", VARIANTS, buffered.lastChunkMicros(), incremental.lastChunkMicros());
+        }
+    }
+
+    /**
+     * Offset and length of consecutive chunks of random sizes from 1 to {@code maxChunk} covering {@code length} bytes.
+     */
+    private static List<int[]> chunks(final Random random, final int length, final int maxChunk) {
+        final List<int[]> chunks = new ArrayList<>();
+        for (int offset = 0; offset < length; ) {
+            final int size = Math.min(length - offset, 1 + random.nextInt(maxChunk));
+            chunks.add(new int[]{offset, size});
+            offset += size;
+        }
+        return chunks;
+    }
+
+    private static Timing measure(final ChunkedDecode decode) throws Exception {
+        final long[] lastChunkNS = new long[1];
+        final Measure.Operation operation = () -> {
+            lastChunkNS[0] += decode.run();
+            return null;
+        };
+        Measure.warm(WARM_ITERATIONS, operation);
+        lastChunkNS[0] = 0;
+        final Measure.Measurement measurement = Measure.measure(0, RECORD_ITERATIONS, operation);
+        return new Timing(measurement, lastChunkNS[0] / RECORD_ITERATIONS / Measure.NANOS_IN_A_MICRO);
+    }
+}
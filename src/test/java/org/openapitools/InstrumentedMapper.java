@@ -0,0 +1,83 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openapitools.model.Pet;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reads and writes through an {@link ObjectMapper}, reporting each call as a {@link MapperEvent}. While no recording
+ * has the event enabled, {@code begin()}, {@code end()} and {@code shouldCommit()} are no-ops the JIT removes along
+ * with the event, so the cost is that of the mapper call alone; the element count and the other fields are only
+ * worked out for events that are committed. Instances are thread-safe.
+ */
+public final class InstrumentedMapper {
+
+    /**
+     * Tags of a {@link Pet}, size of a collection or map, or 1 for anything else.
+     */
+    public static final ToIntFunction<Object> ELEMENTS = value -> {
+        if (value instanceof Pet pet) {
+            return pet.getTags() == null ? 0 : pet.getTags().size();
+        } else if (value instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        return 1;
+    };
+
+    private final ObjectMapper objectMapper;
+
+    private final String format;
+
+    private final ToIntFunction<Object> elements;
+
+    public InstrumentedMapper(final ObjectMapper objectMapper) {
+        this(objectMapper, ELEMENTS);
+    }
+
+    public InstrumentedMapper(final ObjectMapper objectMapper, final ToIntFunction<Object> elements) {
+        this.objectMapper = objectMapper;
+        this.format = objectMapper.getFactory().getFormatName();
+        this.elements = elements;
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public byte[] writeValueAsBytes(final Object value) throws IOException {
+        final MapperEvent event = new MapperEvent();
+        event.begin();
+        final byte[] bytes = objectMapper.writeValueAsBytes(value);
+        event.end();
+        if (event.shouldCommit()) {
+            commit(event, MapperEvent.WRITE, value == null ? Object.class : value.getClass(), bytes.length, value);
+        }
+        return bytes;
+    }
+
+    public <T> T readValue(final byte[] bytes, final Class<T> type) throws IOException {
+        final MapperEvent event = new MapperEvent();
+        event.begin();
+        final T value = objectMapper.readValue(bytes, type);
+        event.end();
+        if (event.shouldCommit()) {
+            commit(event, MapperEvent.READ, type, bytes.length, value);
+        }
+        return value;
+    }
+
+    private void commit(final MapperEvent event, final String operation, final Class<?> type, final int bytes, final Object value) {
+        event.operation = operation;
+        event.format = format;
+        event.modelType = type;
+        event.bytes = bytes;
+        event.elements = value == null ? 0 : elements.applyAsInt(value);
+        event.commit();
+    }
+}
@@ -0,0 +1,139 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentedMapperTest {
+
+    private static final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+
+    private static final Pet[] PET = petMaker.createPets();
+
+    private static final int WARM_ITERATIONS = 2_000;
+
+    private static final int RECORD_ITERATIONS = 20_000;
+
+    private static final int ROUNDS = 3;
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testRecording(final Format format, @TempDir final Path directory) throws Exception {
+        final InstrumentedMapper mapper = new InstrumentedMapper(Mappers.configure(format.mapper(), Optimizer.NONE));
+        final int[] sizes = new int[PET.length];
+        final Path file = directory.resolve("mapper.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MapperEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            for (int i = 0; i < PET.length; i++) {
+                final byte[] bytes = mapper.writeValueAsBytes(PET[i]);
+                sizes[i] = bytes.length;
+                assertEquals(PET[i], mapper.readValue(bytes, Pet.class));
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        final List<RecordedEvent> events = events(file);
+        assertEquals(2 * PET.length, events.size());
+        for (int i = 0; i < PET.length; i++) {
+            for (final RecordedEvent event : events.subList(2 * i, 2 * i + 2)) {
+                assertEquals(mapper.objectMapper().getFactory().getFormatName(), event.getString("format"));
+                assertEquals(Pet.class.getName(), event.getClass("modelType").getName());
+                assertEquals(sizes[i], event.getLong("bytes"));
+                assertEquals(PET[i].getTags().size(), event.getInt("elements"));
+                assertTrue(event.getDuration().toNanos() > 0);
+            }
+            assertEquals(MapperEvent.WRITE, events.get(2 * i).getString("operation"));
+            assertEquals(MapperEvent.READ, events.get(2 * i + 1).getString("operation"));
+        }
+    }
+
+    @Test
+    void testThreshold(@TempDir final Path directory) throws Exception {
+        final InstrumentedMapper mapper = new InstrumentedMapper(Mappers.configure(Format.JSON.mapper(), Optimizer.NONE));
+        final Path file = directory.resolve("mapper.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MapperEvent.NAME).withThreshold(Duration.ofSeconds(10));
+            recording.start();
+            mapper.readValue(mapper.writeValueAsBytes(PET[0]), Pet.class);
+            recording.stop();
+            recording.dump(file);
+        }
+        assertEquals(List.of(), events(file));
+    }
+
+    @Test
+    void testNullValue(@TempDir final Path directory) throws Exception {
+        final InstrumentedMapper mapper = new InstrumentedMapper(Mappers.configure(Format.JSON.mapper(), Optimizer.NONE));
+        final Path file = directory.resolve("mapper.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MapperEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            assertEquals(null, mapper.readValue(mapper.writeValueAsBytes(null), Pet.class));
+            recording.stop();
+            recording.dump(file);
+        }
+        final List<RecordedEvent> events = events(file);
+        assertEquals(2, events.size());
+        assertEquals(Object.class.getName(), events.get(0).getClass("modelType").getName());
+        for (final RecordedEvent event : events) {
+            assertEquals(4, event.getLong("bytes"));
+            assertEquals(0, event.getInt("elements"));
+        }
+    }
+
+    /**
+     * The plain mapper against the instrumented one with the event disabled, then enabled with no threshold, on
+     * {@code PET[0]}, where the fixed cost of an event weighs most. Each percentage is relative to the plain mapper.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testInstrumentationSpeed(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final InstrumentedMapper mapper = new InstrumentedMapper(objectMapper);
+        final byte[] bytes = objectMapper.writeValueAsBytes(PET[0]);
+        final Measure.Operation plain = () -> objectMapper.readValue(objectMapper.writeValueAsBytes(PET[0]), Pet.class);
+        final Measure.Operation instrumented = () -> mapper.readValue(mapper.writeValueAsBytes(PET[0]), Pet.class);
+        long plainOps = 0;
+        long disabledOps = 0;
+        // alternate, keeping the best of each, so that neither is measured only while the other one is compiling
+        for (int round = 0; round < ROUNDS; round++) {
+            plainOps = Math.max(plainOps, measure(plain));
+            disabledOps = Math.max(disabledOps, measure(instrumented));
+        }
+        final long enabledOps;
+        try (Recording recording = new Recording()) {
+            recording.enable(MapperEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            enabledOps = measure(instrumented);
+            recording.stop();
+        }
+        final String nm = format.label() + ":0/" + bytes.length;
+        System.out.printf("%n%nInstrumentedMapper:%s%n", nm);
+        Measure.report(nm, "RoundTrip(ops/s)", List.of("plain", "disabled", "enabled"), plainOps, disabledOps, enabledOps);
+    }
+
+    private static List<RecordedEvent> events(final Path file) throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> MapperEvent.NAME.equals(event.getEventType().getName()))
+                .toList();
+    }
+
+    private static long measure(final Measure.Operation operation) throws Exception {
+        return Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, operation).opsPerSecond();
+    }
+}
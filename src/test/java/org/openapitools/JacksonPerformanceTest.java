@@ -1,26 +1,38 @@
 package org.openapitools;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.management.ThreadMXBean;
+import org.HdrHistogram.Histogram;
 import org.apache.commons.lang3.builder.RecursiveToStringStyle;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
-import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.openapitools.model.Pet;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 class JacksonPerformanceTest {
 
     private static final long NANOS_IN_A_SECOND = 1_000_000_000L;
@@ -28,11 +40,11 @@ class JacksonPerformanceTest {
 
     private static final boolean DEBUG_RECORD = false;
 
-    private static final Random RANDOM = new Random(12384754124L);
+    private static final Random RANDOM = new Random(PetMaker.SEED);
 
     private static final PetMaker petMaker = new PetMaker(RANDOM);
 
-    private static final Pet[] PET = { petMaker.createPet(0), petMaker.createPet(100), petMaker.createPet(1000) };
+    private static final Pet[] PET = petMaker.createPets();
 
     private static final int WARM_ITERATIONS = 100;
 
@@ -40,6 +52,16 @@ class JacksonPerformanceTest {
 
     private static final int GC_MODULUS = 100;
 
+    private static final long HISTOGRAM_MAX_NS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final int HISTOGRAM_DIGITS = 3;
+
+    private static final double[] PERCENTILES = { 50d, 90d, 99d, 99.9d };
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final Baseline BASELINE = new Baseline();
+
     @BeforeAll
     static void beforeAll() {
         for (int i = 0; i < PET.length; i++) {
@@ -48,50 +70,90 @@ class JacksonPerformanceTest {
     }
 
     @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void testObjectSmile(final boolean userAfterBurner) throws Exception {
+    @EnumSource(Optimizer.class)
+    void testObjectSmile(final Optimizer optimizer) throws Exception {
         for (int i = 0; i < PET.length; i++) {
-            testObjectSmile(userAfterBurner, i);
+            testFormats(optimizer, i, Format.JSON, Format.SMILE);
         }
     }
 
-    void testObjectSmile(final boolean userAfterBurner, final int petNum) throws Exception {
-        final Pet pet = PET[petNum];
-        final String nm = (userAfterBurner ? "+AB" : "-AB") + "/" + String.valueOf(petNum) + "/" + pet.getTags().size();
-        System.out.printf("\n\nObjectMapper/SmileMapper:%s\n", nm);
-        final Result objectResult = testObjectMapper(userAfterBurner, nm, pet);
-        final Result smileResult = testSmileMapper(userAfterBurner, nm, pet);
-        report(nm, objectResult, smileResult);
+    @ParameterizedTest
+    @EnumSource(Optimizer.class)
+    void testSmileObject(final Optimizer optimizer) throws Exception {
+        for (int i = 0; i < PET.length; i++) {
+            testFormats(optimizer, i, Format.SMILE, Format.JSON);
+        }
     }
 
-
+    /**
+     * N-way table over every {@link Format}. YAML runs about twenty times slower than JSON, so only the reflective
+     * baseline and the generated codecs are covered here; the other optimizers are in {@link JacksonBenchmark}.
+     */
     @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void testSmileObject(final boolean useAfterBurner) throws Exception {
+    @EnumSource(value = Optimizer.class, names = {"NONE", "GENERATED"})
+    void testFormats(final Optimizer optimizer) throws Exception {
         for (int i = 0; i < PET.length; i++) {
-            testSmileObject(useAfterBurner, i);
+            testFormats(optimizer, i, Format.values());
         }
     }
 
-    void testSmileObject(final boolean userAfterBurner, final int petNum) throws Exception {
+    void testFormats(final Optimizer optimizer, final int petNum, final Format... formats) throws Exception {
         final Pet pet = PET[petNum];
-        final String nm = (userAfterBurner ? "+AB" : "-AB") + "/" + String.valueOf(petNum) + "/" + pet.getTags().size();
-        System.out.printf("\n\nSmileMapper/ObjectMapper:%s\n", nm);
-        final Result smileResult = testSmileMapper(userAfterBurner, nm, pet);
-        final Result objectResult = testObjectMapper(userAfterBurner, nm, pet);
-        report(nm, objectResult, smileResult);
+        final String nm = optimizer.label() + "/" + String.valueOf(petNum) + "/" + pet.getTags().size();
+        System.out.printf("\n\n%s:%s\n", Arrays.stream(formats).map(Format::label).collect(Collectors.joining("/")), nm);
+        final Map<Format, Result> results = new EnumMap<>(Format.class);
+        for (final Format format : formats) {
+            results.put(format, test(format, optimizer, nm, pet));
+        }
+        report(nm, results);
+        checkBaseline(Arrays.stream(formats).map(Format::name).collect(Collectors.joining("-")), optimizer, petNum, results);
+    }
+
+    /**
+     * Records every result in its {@link Baseline} and fails on any metric that regressed against it.
+     */
+    private void checkBaseline(final String suite, final Optimizer optimizer, final int petNum, final Map<Format, Result> results) throws IOException {
+        final List<Baseline.Regression> regressions = new ArrayList<>();
+        for (final Map.Entry<Format, Result> entry : results.entrySet()) {
+            final Result result = entry.getValue();
+            regressions.addAll(BASELINE.check(Baseline.Key.of(suite, entry.getKey(), optimizer, petNum, PET[petNum].getTags().size()),
+                    new Baseline.Sample(result.serialize().opsPerSecond(), result.deserialize().opsPerSecond(),
+                            result.serialize().percentileNS(99d), result.deserialize().percentileNS(99d),
+                            result.serialize().allocatedBytesPerOp(), result.deserialize().allocatedBytesPerOp(),
+                            result.numBytes(), result.numCompressedBytes())));
+        }
+        regressions.forEach(regression -> System.out.printf("REGRESSION %s%n", regression.formatted()));
+        assertTrue(regressions.isEmpty(), () -> regressions.size() + " regression(s) against " + Baseline.DIRECTORY);
     }
 
-    Result testSmileMapper(final boolean useAfterBurner, final String nm, final Pet pet) throws Exception {
-        final SmileMapper smileMapper = new SmileMapper();
-        configure(smileMapper, useAfterBurner);
-        return test("SmileMapper:" + nm, smileMapper, pet);
+    @Test
+    void testSmileProfiles() throws Exception {
+        for (int i = 0; i < PET.length; i++) {
+            testSmileProfiles(i);
+        }
     }
 
-    Result testObjectMapper(final boolean userAfterBurner, final String nm, final Pet pet) throws Exception {
-        final ObjectMapper objectMapper = new ObjectMapper();
-        configure(objectMapper, userAfterBurner);
-        return test("ObjectMapper:" + nm, objectMapper, pet);
+    void testSmileProfiles(final int petNum) throws Exception {
+        final Pet pet = PET[petNum];
+        final String nm = Optimizer.NONE.label() + "/" + String.valueOf(petNum) + "/" + pet.getTags().size();
+        System.out.printf("\n\nSmileProfiles:%s\n", nm);
+        final Map<SmileProfile, SmileMapper> mappers = new EnumMap<>(SmileProfile.class);
+        for (final SmileProfile profile : SmileProfile.values()) {
+            // warm every profile before recording any of them so the first profile does not pay for JIT compilation
+            final SmileMapper smileMapper = Mappers.configure(profile.mapper(), Optimizer.NONE);
+            test(profile + ":" + nm, smileMapper, RECORD_ITERATIONS / 10, false, pet);
+            mappers.put(profile, smileMapper);
+        }
+        final Map<SmileProfile, Result> results = new EnumMap<>(SmileProfile.class);
+        for (final Map.Entry<SmileProfile, SmileMapper> entry : mappers.entrySet()) {
+            results.put(entry.getKey(), test(entry.getKey() + ":" + nm, entry.getValue(), pet));
+        }
+        reportProfiles(nm, results);
+    }
+
+    Result test(final Format format, final Optimizer optimizer, final String nm, final Pet pet) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), optimizer);
+        return test(format.label() + ":" + nm, objectMapper, pet);
     }
 
     Result test(final String name, final ObjectMapper objectMapper, final Pet pet) throws Exception {
@@ -112,7 +174,7 @@ class JacksonPerformanceTest {
         }
     }
 
-    record Timing(String name, int iterations, long durationNS) {
+    record Timing(String name, int iterations, long durationNS, Histogram histogram, long allocatedBytes) {
 
         Duration duration() {
             return Duration.of(durationNS(), ChronoUnit.NANOS);
@@ -130,33 +192,67 @@ class JacksonPerformanceTest {
             return NANOS_IN_A_SECOND / avgOpDurationNS();
         }
 
+        long percentileNS(final double percentile) {
+            return histogram.getValueAtPercentile(percentile);
+        }
+
+        long maxNS() {
+            return histogram.getMaxValue();
+        }
+
+        long allocatedBytesPerOp() {
+            return allocatedBytes / ((long)iterations);
+        }
+
         String formatted() {
-            return String.format("%-12s avgOpDuration=%-14s ops/sec=%-,10d", name(), avgOpDuration(), opsPerSecond());
+            final StringBuilder sb = new StringBuilder(String.format("%-12s avgOpDuration=%-14s ops/sec=%-,10d alloc/op=%-,10d", name(), avgOpDuration(), opsPerSecond(), allocatedBytesPerOp()));
+            for (final double percentile : PERCENTILES) {
+                sb.append(String.format(" p%s=%,dns", percentile(percentile), percentileNS(percentile)));
+            }
+            return sb.append(String.format(" max=%,dns", maxNS())).toString();
         }
     }
+
+    /**
+     * Goes through an {@link InstrumentedMapper}, so that a run under {@code -Pjfr} has a {@link MapperEvent} for
+     * every single serialization.
+     */
     Result test(final String name, final ObjectMapper objectMapper, final int iterations, final boolean record, final Pet pet) throws Exception {
+        final InstrumentedMapper mapper = new InstrumentedMapper(objectMapper);
         byte [] bytes = new byte[0];
         Pet tmp = null;
         long serializeDurationNS = 0;
         long deserializeDurationNS = 0;
+        final Histogram serializeHistogram = new Histogram(HISTOGRAM_MAX_NS, HISTOGRAM_DIGITS);
+        final Histogram deserializeHistogram = new Histogram(HISTOGRAM_MAX_NS, HISTOGRAM_DIGITS);
+        long serializeAllocatedBytes = 0;
+        long deserializeAllocatedBytes = 0;
         for (int i = 0; i < iterations; i++) {
             if (i % GC_MODULUS == 0) {
                 System.gc();
             }
+            long startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
             long startNS = System.nanoTime();
-            bytes = objectMapper.writeValueAsBytes(pet);
-            serializeDurationNS += System.nanoTime() - startNS;
+            bytes = mapper.writeValueAsBytes(pet);
+            long opDurationNS = System.nanoTime() - startNS;
+            serializeAllocatedBytes += THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            serializeDurationNS += opDurationNS;
+            serializeHistogram.recordValue(Math.min(opDurationNS, HISTOGRAM_MAX_NS));
+            startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
             startNS = System.nanoTime();
-            tmp = objectMapper.readValue(bytes, Pet.class);
-            deserializeDurationNS += System.nanoTime() - startNS;
+            tmp = mapper.readValue(bytes, Pet.class);
+            opDurationNS = System.nanoTime() - startNS;
+            deserializeAllocatedBytes += THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            deserializeDurationNS += opDurationNS;
+            deserializeHistogram.recordValue(Math.min(opDurationNS, HISTOGRAM_MAX_NS));
         }
         if (DEBUG) {
             final String result = (new String(bytes, StandardCharsets.US_ASCII)).replace('\n', '?');
             System.out.printf("%-25s %-5s size=%-,10d -> %s\n", name, record, bytes.length, result);
         }
         final byte[] compressedBytes = compress(bytes);
-        final Timing serializeTiming = new Timing("Serialize", iterations, serializeDurationNS);
-        final Timing deserializeTiming = new Timing("Deserialize", iterations, deserializeDurationNS);
+        final Timing serializeTiming = new Timing("Serialize", iterations, serializeDurationNS, serializeHistogram, serializeAllocatedBytes);
+        final Timing deserializeTiming = new Timing("Deserialize", iterations, deserializeDurationNS, deserializeHistogram, deserializeAllocatedBytes);
         final Result result = new Result(name, serializeTiming, deserializeTiming, bytes.length, Objects.nonNull(compressedBytes) ? compressedBytes.length : 0);
         if (DEBUG || DEBUG_RECORD || record) {
             System.out.printf("%s\n", result.formatted());
@@ -176,27 +272,59 @@ class JacksonPerformanceTest {
         }
     }
 
-    private void configure(final ObjectMapper objectMapper, final boolean useAfterBurner) {
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        objectMapper.configure(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS, false);
-        objectMapper.findAndRegisterModules();
-        objectMapper.registerModule(new JsonNullableModule());
-        objectMapper.registerModule(new JavaTimeModule());
-        if (useAfterBurner) {
-            objectMapper.registerModule(new com.fasterxml.jackson.module.afterburner.AfterburnerModule());
+    /**
+     * Prints one row per metric with a column per format; every column after the first also shows its ratio to the first.
+     */
+    private void report(final String nm, final Map<Format, Result> results) {
+        System.out.println();
+        reportRow(String.format("%-10s Uncompressed(bytes)", nm), results, Result::numBytes);
+        reportRow("Compressed(bytes)", results, Result::numCompressedBytes);
+        reportRow("Serialize(ops/s)", results, result -> result.serialize().opsPerSecond());
+        reportRow("DeSerialize(ops/s)", results, result -> result.deserialize().opsPerSecond());
+        reportRow("Serialize(alloc/op)", results, result -> result.serialize().allocatedBytesPerOp());
+        reportRow("DeSerialize(alloc/op)", results, result -> result.deserialize().allocatedBytesPerOp());
+        reportLatency(results, Result::serialize);
+        reportLatency(results, Result::deserialize);
+    }
+
+    private void reportProfiles(final String nm, final Map<SmileProfile, Result> results) {
+        final Result base = results.get(SmileProfile.DEFAULT);
+        System.out.printf("\n%-12s %-24s %-18s %-18s %-18s %-18s%n", nm, "Profile", "Uncompressed(bytes)", "Compressed(bytes)", "Serialize(ops/s)", "DeSerialize(ops/s)");
+        for (final Map.Entry<SmileProfile, Result> entry : results.entrySet()) {
+            final Result result = entry.getValue();
+            System.out.printf("%-12s %-24s %-,8d %7.2f%% %-,8d %7.2f%% %-,8d %7.2f%% %-,8d %7.2f%%%n", "", entry.getKey(),
+                    result.numBytes(), 100d * ratio(result.numBytes(), base.numBytes()),
+                    result.numCompressedBytes(), 100d * ratio(result.numCompressedBytes(), base.numCompressedBytes()),
+                    result.serialize().opsPerSecond(), 100d * ratio(result.serialize().opsPerSecond(), base.serialize().opsPerSecond()),
+                    result.deserialize().opsPerSecond(), 100d * ratio(result.deserialize().opsPerSecond(), base.deserialize().opsPerSecond()));
+        }
+    }
+
+    private void reportLatency(final Map<Format, Result> results, final Function<Result, Timing> timing) {
+        final String name = timing.apply(results.values().iterator().next()).name();
+        for (final double percentile : PERCENTILES) {
+            reportRow(String.format("%s p%s(ns)", name, percentile(percentile)), results, result -> timing.apply(result).percentileNS(percentile));
+        }
+        reportRow(name + " max(ns)", results, result -> timing.apply(result).maxNS());
+    }
+
+    private void reportRow(final String label, final Map<Format, Result> results, final ToLongFunction<Result> metric) {
+        final StringBuilder sb = new StringBuilder(String.format("%30s", label));
+        Long base = null;
+        for (final Map.Entry<Format, Result> entry : results.entrySet()) {
+            final long value = metric.applyAsLong(entry.getValue());
+            sb.append(String.format(" %s=%-,10d", entry.getKey().label(), value));
+            if (base == null) {
+                base = value;
+            } else {
+                sb.append(String.format(" %6.2f%%", 100d * ratio(value, base)));
+            }
         }
+        System.out.println(sb);
     }
 
-    private void report(final String nm, final Result objectResult, final Result smileResult) {
-        System.out.printf("\n%-10s Uncompressed(bytes) ObjectMapper=%-,10d SmileMapper=%-,10d %6.2f%%%n" +
-                        "             Compressed(bytes) ObjectMapper=%-,10d SmileMapper=%-,10d %6.2f%%%n" +
-                        "              Serialize(ops/s) ObjectMapper=%-,10d SmileMapper=%-,10d %6.2f%%%n" +
-                        "            DeSerialize(ops/s) ObjectMapper=%-,10d SmileMapper=%-,10d %6.2f%%%n",
-                nm,
-                objectResult.numBytes(), smileResult.numBytes, 100d * ((double)(smileResult.numBytes())) / ((double)objectResult.numBytes()),
-                objectResult.numCompressedBytes(), smileResult.numCompressedBytes(), 100d * ratio(smileResult.numCompressedBytes(), objectResult.numCompressedBytes()),
-                objectResult.serialize.opsPerSecond(), smileResult.serialize.opsPerSecond(), 100d * ratio(smileResult.serialize.opsPerSecond(), objectResult.serialize.opsPerSecond()),
-                objectResult.deserialize.opsPerSecond(), smileResult.deserialize.opsPerSecond(), 100d * ratio(smileResult.deserialize.opsPerSecond(), objectResult.deserialize.opsPerSecond()));
+    private static String percentile(final double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
     }
 
     private double ratio(final long a, final long b) {
@@ -0,0 +1,56 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Does at startup what the first request would otherwise pay for. Construction resolves the root serializer and
+ * deserializer of every declared model class through {@link ObjectMapper#writerFor(Class)} and
+ * {@link ObjectMapper#readerFor(Class)}, which fetch them eagerly and keep them in the returned writer and reader.
+ * {@link #warm(Object)} then round-trips a representative instance, which also fills the per-property serializer
+ * caches of non-final property types and loads the classes only a populated graph touches.
+ * <p>
+ * Instances are thread-safe once built; serve requests through {@link #writer(Class)} and {@link #reader(Class)}.
+ */
+public final class MapperBootstrap {
+
+    private final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+    private final Map<Class<?>, ObjectReader> readers = new HashMap<>();
+
+    public MapperBootstrap(final ObjectMapper objectMapper, final Class<?>... types) {
+        for (final Class<?> type : types) {
+            writers.put(type, objectMapper.writerFor(type));
+            readers.put(type, objectMapper.readerFor(type));
+        }
+    }
+
+    /**
+     * Serializes and deserializes {@code sample} once through the writer and reader of its class.
+     */
+    public MapperBootstrap warm(final Object sample) throws IOException {
+        reader(sample.getClass()).readValue(writer(sample.getClass()).writeValueAsBytes(sample));
+        return this;
+    }
+
+    public ObjectWriter writer(final Class<?> type) {
+        return lookup(writers, type);
+    }
+
+    public ObjectReader reader(final Class<?> type) {
+        return lookup(readers, type);
+    }
+
+    private static <V> V lookup(final Map<Class<?>, V> map, final Class<?> type) {
+        final V value = map.get(type);
+        if (value == null) {
+            throw new IllegalArgumentException("Not bootstrapped: " + type.getName() + ", declared " + map.keySet());
+        }
+        return value;
+    }
+}
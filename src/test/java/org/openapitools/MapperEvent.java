@@ -0,0 +1,51 @@
+package org.openapitools;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one read or write of a model value through an {@link InstrumentedMapper}. Its duration
+ * covers only the mapper call, so in a recording it lines up with the allocation samples, GC pauses and safepoints
+ * of that one value. Committed only above the event's threshold, 1 ms unless the recording sets another, for
+ * example with {@code -XX:StartFlightRecording:...,+org.openapitools.MapperOperation#threshold=0ms}.
+ */
+@Name(MapperEvent.NAME)
+@Label("Mapper Operation")
+@Category({"Jackson", "Serialization"})
+@Description("One ObjectMapper read or write of a model value")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class MapperEvent extends Event {
+
+    public static final String NAME = "org.openapitools.MapperOperation";
+
+    public static final String READ = "read";
+
+    public static final String WRITE = "write";
+
+    @Label("Operation")
+    @Description("read or write")
+    String operation;
+
+    @Label("Format")
+    @Description("Format name of the mapper's factory")
+    String format;
+
+    @Label("Model Type")
+    Class<?> modelType;
+
+    @Label("Size")
+    @Description("Encoded size of the value")
+    @DataAmount
+    long bytes;
+
+    @Label("Elements")
+    @Description("Number of elements of the value, the tags of a Pet")
+    int elements;
+}
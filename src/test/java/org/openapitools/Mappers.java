@@ -0,0 +1,29 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+
+/**
+ * Shared mapper configuration so the JUnit harness and the JMH benchmarks measure identical mappers.
+ */
+final class Mappers {
+
+    private Mappers() {
+    }
+
+    static <T extends ObjectMapper> T configure(final T objectMapper, final Optimizer optimizer) {
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        objectMapper.configure(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS, false);
+        objectMapper.findAndRegisterModules();
+        objectMapper.registerModule(new JsonNullableModule());
+        objectMapper.registerModule(new JavaTimeModule());
+        final Module module = optimizer.module();
+        if (module != null) {
+            objectMapper.registerModule(module);
+        }
+        return objectMapper;
+    }
+}
@@ -0,0 +1,91 @@
+package org.openapitools;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Warm-up and recording loop shared by the tests that compare variants of one operation: throughput and bytes
+ * allocated per operation on the calling thread, and one report line per metric with each variant as a percentage of
+ * the first.
+ */
+final class Measure {
+
+    static final long NANOS_IN_A_SECOND = 1_000_000_000L;
+
+    static final long NANOS_IN_A_MICRO = 1_000L;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Measure() {
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        /**
+         * @return anything the operation produced, so that a block of calls can hand back their results
+         */
+        Object run() throws Exception;
+    }
+
+    record Measurement(long opsPerSecond, long allocatedBytesPerOp) {
+    }
+
+    static void warm(final int iterations, final Operation operation) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+    }
+
+    static Measurement measure(final int warmIterations, final int recordIterations, final Operation operation) throws Exception {
+        return measure(warmIterations, recordIterations, 1, operation);
+    }
+
+    /**
+     * @param opsPerRun operations in one run of {@code operation}, such as the records of a batch, so that the result
+     *                  is per record rather than per batch
+     */
+    static Measurement measure(final int warmIterations, final int recordIterations, final int opsPerRun, final Operation operation)
+            throws Exception {
+        warm(warmIterations, operation);
+        final long startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        final long startNS = System.nanoTime();
+        for (int i = 0; i < recordIterations; i++) {
+            operation.run();
+        }
+        final long durationNS = System.nanoTime() - startNS;
+        final long allocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+        final long ops = (long) recordIterations * opsPerRun;
+        return new Measurement(NANOS_IN_A_SECOND * ops / durationNS, allocatedBytes / ops);
+    }
+
+    /**
+     * Prints the {@code (ops/s)} and {@code (alloc/op)} lines of {@code name} for the variants called {@code names}.
+     */
+    static void report(final String nm, final String name, final List<String> names, final Measurement... measurements) {
+        final long[] opsPerSecond = new long[measurements.length];
+        final long[] allocatedBytesPerOp = new long[measurements.length];
+        for (int i = 0; i < measurements.length; i++) {
+            opsPerSecond[i] = measurements[i].opsPerSecond();
+            allocatedBytesPerOp[i] = measurements[i].allocatedBytesPerOp();
+        }
+        report(nm, name + "(ops/s)", names, opsPerSecond);
+        report(nm, name + "(alloc/op)", names, allocatedBytesPerOp);
+    }
+
+    /**
+     * Prints one line of {@code values}, one per variant in {@code names}, each after the first followed by its
+     * percentage of the first.
+     */
+    static void report(final String nm, final String column, final List<String> names, final long... values) {
+        final StringBuilder line = new StringBuilder(String.format("%-20s %24s", nm, column));
+        for (int i = 0; i < values.length; i++) {
+            line.append(String.format(" %s=%-,10d", names.get(i), values[i]));
+            if (i > 0) {
+                line.append(String.format(" %7.2f%%", 100d * values[i] / values[0]));
+            }
+        }
+        System.out.println(line);
+    }
+}
@@ -0,0 +1,561 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Category;
+import org.openapitools.model.Pet;
+import org.openapitools.model.Tag;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Emits hand-rolled streaming {@code JsonSerializer}/{@code JsonDeserializer} classes, plus a module registering
+ * them, for the OpenAPI models. The generated code drives {@code JsonGenerator}/{@code JsonParser} directly, writes
+ * pre-encoded field names and matches incoming names with a {@code switch}, so it serves JSON, Smile and YAML alike;
+ * XML mappers keep their reflective path because XML relies on its own bean (de)serializer modifiers. Scalars,
+ * strings, enums, lists and {@link JsonNullable} are inlined; any other type (dates, nested models) is delegated to
+ * the serializer or deserializer the mapper resolves for it, which keeps the output identical to the reflective path.
+ * <p>
+ * The sources are checked in under {@link #PACKAGE}. Regenerate them after a model change with
+ * {@code mvn -Pcodegen process-test-classes}; {@code ModelCodecGeneratorTest} fails while they are stale.
+ */
+public final class ModelCodecGenerator {
+
+    static final String PACKAGE = "org.openapitools.model.codec";
+
+    static final String MODULE = "ModelCodecModule";
+
+    static final List<Class<?>> MODELS = List.of(Category.class, Pet.class, Tag.class);
+
+    private static final String INDENT = "    ";
+
+    private final ObjectMapper objectMapper = Mappers.configure(new ObjectMapper(), Optimizer.NONE);
+
+    public static void main(final String[] args) throws IOException {
+        final Path dir = Path.of(args.length > 0 ? args[0] : "src/test/java").resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(dir);
+        for (final Map.Entry<String, String> source : new ModelCodecGenerator().generate().entrySet()) {
+            Files.writeString(dir.resolve(source.getKey() + ".java"), source.getValue());
+        }
+    }
+
+    /**
+     * @return generated sources keyed by simple class name
+     */
+    Map<String, String> generate() {
+        final Map<String, String> sources = new LinkedHashMap<>();
+        for (final Class<?> model : MODELS) {
+            final List<Property> properties = properties(model);
+            sources.put(model.getSimpleName() + "Serializer", new Emitter(model).serializer(properties));
+            sources.put(model.getSimpleName() + "Deserializer", new Emitter(model).deserializer(properties));
+        }
+        sources.put(MODULE, module());
+        return sources;
+    }
+
+    record Property(String name, String getter, String setter, JavaType type) {
+
+        String constant() {
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+        }
+
+        String method() {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    private enum Kind { STRING, LONG, INTEGER, BOOLEAN, DOUBLE, ENUM, LIST, NULLABLE, DELEGATE }
+
+    private List<Property> properties(final Class<?> model) {
+        final BeanDescription description = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(model));
+        final List<Property> properties = new ArrayList<>();
+        for (final BeanPropertyDefinition definition : description.findProperties()) {
+            if (!definition.hasGetter() || !definition.hasSetter()) {
+                throw new IllegalArgumentException(model.getName() + "." + definition.getName() + " needs a getter and a setter");
+            }
+            properties.add(new Property(definition.getName(), definition.getGetter().getName(), definition.getSetter().getName(), definition.getPrimaryType()));
+        }
+        return properties;
+    }
+
+    private static Kind kind(final JavaType type) {
+        final Class<?> raw = type.getRawClass();
+        if (raw == String.class) {
+            return Kind.STRING;
+        } else if (raw == Long.class || raw == long.class) {
+            return Kind.LONG;
+        } else if (raw == Integer.class || raw == int.class) {
+            return Kind.INTEGER;
+        } else if (raw == Boolean.class || raw == boolean.class) {
+            return Kind.BOOLEAN;
+        } else if (raw == Double.class || raw == double.class) {
+            return Kind.DOUBLE;
+        } else if (raw.isEnum()) {
+            return Kind.ENUM;
+        } else if (raw == List.class) {
+            return Kind.LIST;
+        } else if (raw == JsonNullable.class) {
+            return Kind.NULLABLE;
+        } else if (type.containedTypeCount() > 0) {
+            throw new IllegalArgumentException("Unsupported generic type " + type);
+        }
+        return Kind.DELEGATE;
+    }
+
+    private static JavaType content(final JavaType type) {
+        return type.getRawClass() == JsonNullable.class && type.getReferencedType() != null ? type.getReferencedType() : type.containedType(0);
+    }
+
+    private static Method jsonValue(final Class<?> type) {
+        for (final Method method : type.getMethods()) {
+            if (method.isAnnotationPresent(JsonValue.class) && method.getParameterCount() == 0) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Method jsonCreator(final Class<?> type) {
+        for (final Method method : type.getMethods()) {
+            if (method.isAnnotationPresent(JsonCreator.class) && Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 1 && method.getParameterTypes()[0] == String.class) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static String jsonValue(final Enum<?> constant, final Method jsonValue) {
+        try {
+            return jsonValue == null ? constant.name() : String.valueOf(jsonValue.invoke(constant));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String quote(final String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private String module() {
+        final Set<String> imports = new TreeSet<>(List.of(
+                "com.fasterxml.jackson.core.Version",
+                "com.fasterxml.jackson.databind.BeanDescription",
+                "com.fasterxml.jackson.databind.DeserializationConfig",
+                "com.fasterxml.jackson.databind.JavaType",
+                "com.fasterxml.jackson.databind.JsonDeserializer",
+                "com.fasterxml.jackson.databind.JsonSerializer",
+                "com.fasterxml.jackson.databind.Module",
+                "com.fasterxml.jackson.databind.SerializationConfig",
+                "com.fasterxml.jackson.databind.deser.Deserializers",
+                "com.fasterxml.jackson.databind.ser.Serializers"));
+        MODELS.forEach(model -> imports.add(model.getName()));
+        final StringBuilder sb = header(imports);
+        sb.append("/**\n")
+                .append(" * Registers the generated serializers and deserializers. Each mapper lookup gets fresh instances, because they\n")
+                .append(" * cache the delegates resolved for that mapper.\n")
+                .append(" */\n")
+                .append("public final class ").append(MODULE).append(" extends Module {\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public String getModuleName() {\n")
+                .append(INDENT).append(INDENT).append("return ").append(quote(MODULE)).append(";\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public Version version() {\n")
+                .append(INDENT).append(INDENT).append("return Version.unknownVersion();\n")
+                .append(INDENT).append("}\n\n")
+                .append(INDENT).append("@Override\n")
+                .append(INDENT).append("public void setupModule(final SetupContext context) {\n")
+                .append(INDENT).append(INDENT).append("// XML wraps lists and maps attributes in its own bean (de)serializers, so XML mappers keep the reflective path\n")
+                .append(INDENT).append(INDENT).append("if (\"XML\".equals(context.getOwner().getFactory().getFormatName())) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("return;\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append("context.addSerializers(new Serializers.Base() {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("@Override\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("public JsonSerializer<?> findSerializer(final SerializationConfig config, final JavaType type, final BeanDescription beanDesc) {\n");
+        for (final Class<?> model : MODELS) {
+            sb.append(INDENT.repeat(4)).append("if (type.getRawClass() == ").append(model.getSimpleName()).append(".class) {\n")
+                    .append(INDENT.repeat(5)).append("return new ").append(model.getSimpleName()).append("Serializer();\n")
+                    .append(INDENT.repeat(4)).append("}\n");
+        }
+        sb.append(INDENT.repeat(4)).append("return null;\n")
+                .append(INDENT.repeat(3)).append("}\n")
+                .append(INDENT.repeat(2)).append("});\n")
+                .append(INDENT.repeat(2)).append("context.addDeserializers(new Deserializers.Base() {\n")
+                .append(INDENT.repeat(3)).append("@Override\n")
+                .append(INDENT.repeat(3)).append("public JsonDeserializer<?> findBeanDeserializer(final JavaType type, final DeserializationConfig config, final BeanDescription beanDesc) {\n");
+        for (final Class<?> model : MODELS) {
+            sb.append(INDENT.repeat(4)).append("if (type.getRawClass() == ").append(model.getSimpleName()).append(".class) {\n")
+                    .append(INDENT.repeat(5)).append("return new ").append(model.getSimpleName()).append("Deserializer();\n")
+                    .append(INDENT.repeat(4)).append("}\n");
+        }
+        sb.append(INDENT.repeat(4)).append("return null;\n")
+                .append(INDENT.repeat(3)).append("}\n")
+                .append(INDENT.repeat(2)).append("});\n")
+                .append(INDENT).append("}\n")
+                .append("}\n");
+        return sb.toString();
+    }
+
+    private static StringBuilder header(final Set<String> imports) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("// Generated by ").append(ModelCodecGenerator.class.getName()).append(". Do not edit.\n")
+                .append("package ").append(PACKAGE).append(";\n\n");
+        imports.stream().filter(name -> !name.startsWith("java.")).forEach(name -> sb.append("import ").append(name).append(";\n"));
+        if (imports.stream().anyMatch(name -> name.startsWith("java."))) {
+            sb.append('\n');
+            imports.stream().filter(name -> name.startsWith("java.")).forEach(name -> sb.append("import ").append(name).append(";\n"));
+        }
+        return sb.append('\n');
+    }
+
+    /**
+     * Builds the source of one serializer or deserializer; collects the imports and delegate fields it needs.
+     */
+    private static final class Emitter {
+
+        private final Class<?> model;
+
+        private final Set<String> imports = new TreeSet<>();
+
+        private final Map<String, JavaType> delegates = new LinkedHashMap<>();
+
+        private final Map<String, JavaType> fallbacks = new LinkedHashMap<>();
+
+        private final StringBuilder methods = new StringBuilder();
+
+        private Emitter(final Class<?> model) {
+            this.model = model;
+            imports.add(model.getName());
+            imports.add(IOException.class.getName());
+        }
+
+        private String typeName(final JavaType type) {
+            final Class<?> raw = type.getRawClass();
+            if (raw.isPrimitive()) {
+                return raw.getName();
+            }
+            Class<?> outer = raw;
+            while (outer.getEnclosingClass() != null) {
+                outer = outer.getEnclosingClass();
+            }
+            if (!outer.getPackageName().equals("java.lang")) {
+                imports.add(outer.getName());
+            }
+            final String name = raw.getName().substring(outer.getPackageName().length() + 1).replace('$', '.');
+            if (type.containedTypeCount() == 0) {
+                return name;
+            }
+            final List<String> parameters = new ArrayList<>();
+            for (int i = 0; i < type.containedTypeCount(); i++) {
+                parameters.add(typeName(type.containedType(i)));
+            }
+            return name + "<" + String.join(", ", parameters) + ">";
+        }
+
+        private String rawName(final JavaType type) {
+            final String name = typeName(type);
+            final int generic = name.indexOf('<');
+            return generic < 0 ? name : name.substring(0, generic);
+        }
+
+        private String typeExpression(final JavaType type) {
+            switch (kind(type)) {
+                case LIST:
+                    return "typeFactory.constructCollectionType(List.class, " + typeExpression(content(type)) + ")";
+                case NULLABLE:
+                    return "typeFactory.constructReferenceType(JsonNullable.class, " + typeExpression(content(type)) + ")";
+                default:
+                    return "typeFactory.constructType(" + rawName(type) + ".class)";
+            }
+        }
+
+        private StringBuilder line(final StringBuilder sb, final int depth, final String text) {
+            return sb.append(INDENT.repeat(depth)).append(text).append('\n');
+        }
+
+        String serializer(final List<Property> properties) {
+            imports.add("com.fasterxml.jackson.core.JsonGenerator");
+            imports.add("com.fasterxml.jackson.core.SerializableString");
+            imports.add("com.fasterxml.jackson.core.io.SerializedString");
+            imports.add("com.fasterxml.jackson.databind.JsonMappingException");
+            imports.add("com.fasterxml.jackson.databind.JsonSerializer");
+            imports.add("com.fasterxml.jackson.databind.SerializerProvider");
+            imports.add("com.fasterxml.jackson.databind.ser.ResolvableSerializer");
+            imports.add("com.fasterxml.jackson.databind.ser.std.StdSerializer");
+            final String name = model.getSimpleName();
+            final StringBuilder body = new StringBuilder();
+            line(body, 2, "gen.writeStartObject(value);");
+            for (final Property property : properties) {
+                final String local = property.name();
+                line(body, 2, "final " + typeName(property.type()) + " " + local + " = value." + property.getter() + "();");
+                if (kind(property.type()) == Kind.NULLABLE) {
+                    final JavaType content = content(property.type());
+                    line(body, 2, "if (" + local + " != null && " + local + ".isPresent()) {");
+                    line(body, 3, "gen.writeFieldName(" + property.constant() + ");");
+                    line(body, 3, "final " + typeName(content) + " " + local + "Content = " + local + ".get();");
+                    write(body, 3, content, local + "Content");
+                    line(body, 2, "}");
+                } else {
+                    line(body, 2, "gen.writeFieldName(" + property.constant() + ");");
+                    write(body, 2, property.type(), local);
+                }
+            }
+            line(body, 2, "gen.writeEndObject();");
+
+            final StringBuilder sb = new StringBuilder();
+            sb.append("public final class ").append(name).append("Serializer extends StdSerializer<").append(name).append("> implements ResolvableSerializer {\n\n");
+            line(sb, 1, "private static final long serialVersionUID = 1L;").append('\n');
+            for (final Property property : properties) {
+                line(sb, 1, "private static final SerializableString " + property.constant() + " = new SerializedString(" + quote(property.name()) + ");").append('\n');
+            }
+            for (final String delegate : delegates.keySet()) {
+                line(sb, 1, "private transient JsonSerializer<Object> " + delegate + "Serializer;").append('\n');
+            }
+            line(sb, 1, "public " + name + "Serializer() {");
+            line(sb, 2, "super(" + name + ".class);");
+            line(sb, 1, "}").append('\n');
+            line(sb, 1, "@Override");
+            line(sb, 1, "public void resolve(final SerializerProvider provider) throws JsonMappingException {");
+            for (final Map.Entry<String, JavaType> delegate : delegates.entrySet()) {
+                line(sb, 2, delegate.getKey() + "Serializer = provider.findPrimaryPropertySerializer(" + rawName(delegate.getValue()) + ".class, null);");
+            }
+            line(sb, 1, "}").append('\n');
+            line(sb, 1, "@Override");
+            line(sb, 1, "public void serialize(final " + name + " value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {");
+            sb.append(body);
+            line(sb, 1, "}");
+            sb.append("}\n");
+            return header(imports).append(sb).toString();
+        }
+
+        private void write(final StringBuilder sb, final int depth, final JavaType type, final String expression) {
+            final boolean primitive = type.isPrimitive();
+            switch (kind(type)) {
+                case STRING -> nullable(sb, depth, expression, "gen.writeString(" + expression + ");");
+                case LONG -> nullable(sb, depth, primitive ? null : expression, "gen.writeNumber(" + expression + (primitive ? "" : ".longValue()") + ");");
+                case INTEGER -> nullable(sb, depth, primitive ? null : expression, "gen.writeNumber(" + expression + (primitive ? "" : ".intValue()") + ");");
+                case DOUBLE -> nullable(sb, depth, primitive ? null : expression, "gen.writeNumber(" + expression + (primitive ? "" : ".doubleValue()") + ");");
+                case BOOLEAN -> nullable(sb, depth, primitive ? null : expression, "gen.writeBoolean(" + expression + (primitive ? "" : ".booleanValue()") + ");");
+                case ENUM -> {
+                    final Method jsonValue = jsonValue(type.getRawClass());
+                    nullable(sb, depth, expression, "gen.writeString(" + expression + "." + (jsonValue == null ? "name" : jsonValue.getName()) + "());");
+                }
+                case LIST -> {
+                    final JavaType content = content(type);
+                    line(sb, depth, "if (" + expression + " == null) {");
+                    line(sb, depth + 1, "gen.writeNull();");
+                    line(sb, depth, "} else {");
+                    line(sb, depth + 1, "gen.writeStartArray(" + expression + ", " + expression + ".size());");
+                    line(sb, depth + 1, "for (final " + typeName(content) + " " + expression + "Item : " + expression + ") {");
+                    write(sb, depth + 2, content, expression + "Item");
+                    line(sb, depth + 1, "}");
+                    line(sb, depth + 1, "gen.writeEndArray();");
+                    line(sb, depth, "}");
+                }
+                case NULLABLE -> throw new IllegalArgumentException("JsonNullable is only supported as a property type: " + type);
+                case DELEGATE -> {
+                    delegates.put(expression, type);
+                    line(sb, depth, "if (" + expression + " == null) {");
+                    line(sb, depth + 1, "provider.defaultSerializeNull(gen);");
+                    line(sb, depth, "} else {");
+                    line(sb, depth + 1, expression + "Serializer.serialize(" + expression + ", gen, provider);");
+                    line(sb, depth, "}");
+                }
+            }
+        }
+
+        private void nullable(final StringBuilder sb, final int depth, final String expression, final String statement) {
+            if (expression == null) {
+                line(sb, depth, statement);
+                return;
+            }
+            line(sb, depth, "if (" + expression + " == null) {");
+            line(sb, depth + 1, "gen.writeNull();");
+            line(sb, depth, "} else {");
+            line(sb, depth + 1, statement);
+            line(sb, depth, "}");
+        }
+
+        String deserializer(final List<Property> properties) {
+            imports.add("com.fasterxml.jackson.core.JsonParser");
+            imports.add("com.fasterxml.jackson.core.JsonToken");
+            imports.add("com.fasterxml.jackson.databind.DeserializationContext");
+            imports.add("com.fasterxml.jackson.databind.JsonMappingException");
+            imports.add("com.fasterxml.jackson.databind.deser.ResolvableDeserializer");
+            imports.add("com.fasterxml.jackson.databind.deser.std.StdDeserializer");
+            final String name = model.getSimpleName();
+            for (final Property property : properties) {
+                read(property.type(), property.name());
+            }
+
+            final StringBuilder sb = new StringBuilder();
+            sb.append("public final class ").append(name).append("Deserializer extends StdDeserializer<").append(name).append("> implements ResolvableDeserializer {\n\n");
+            line(sb, 1, "private static final long serialVersionUID = 1L;").append('\n');
+            if (!delegates.isEmpty()) {
+                imports.add("com.fasterxml.jackson.databind.JsonDeserializer");
+            }
+            for (final String delegate : delegates.keySet()) {
+                line(sb, 1, "private transient JsonDeserializer<Object> " + delegate + "Deserializer;").append('\n');
+            }
+            if (!fallbacks.isEmpty()) {
+                imports.add("com.fasterxml.jackson.databind.JavaType");
+            }
+            for (final String fallback : fallbacks.keySet()) {
+                line(sb, 1, "private transient JavaType " + fallback + "Type;").append('\n');
+            }
+            line(sb, 1, "public " + name + "Deserializer() {");
+            line(sb, 2, "super(" + name + ".class);");
+            line(sb, 1, "}").append('\n');
+            line(sb, 1, "@Override");
+            line(sb, 1, "public void resolve(final DeserializationContext ctxt) throws JsonMappingException {");
+            if (!delegates.isEmpty() || !fallbacks.isEmpty()) {
+                imports.add("com.fasterxml.jackson.databind.type.TypeFactory");
+                line(sb, 2, "final TypeFactory typeFactory = ctxt.getTypeFactory();");
+            }
+            for (final Map.Entry<String, JavaType> delegate : delegates.entrySet()) {
+                line(sb, 2, delegate.getKey() + "Deserializer = ctxt.findContextualValueDeserializer(" + typeExpression(delegate.getValue()) + ", null);");
+            }
+            for (final Map.Entry<String, JavaType> fallback : fallbacks.entrySet()) {
+                line(sb, 2, fallback.getKey() + "Type = " + typeExpression(fallback.getValue()) + ";");
+            }
+            line(sb, 1, "}").append('\n');
+            line(sb, 1, "@Override");
+            line(sb, 1, "public " + name + " deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {");
+            line(sb, 2, "JsonToken t = p.currentToken();");
+            line(sb, 2, "if (t == JsonToken.START_OBJECT) {");
+            line(sb, 3, "t = p.nextToken();");
+            line(sb, 2, "} else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {");
+            line(sb, 3, "return (" + name + ") ctxt.handleUnexpectedToken(" + name + ".class, p);");
+            line(sb, 2, "}");
+            line(sb, 2, "final " + name + " bean = new " + name + "();");
+            line(sb, 2, "for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {");
+            line(sb, 3, "final String name = p.currentName();");
+            line(sb, 3, "p.nextToken();");
+            line(sb, 3, "switch (name) {");
+            for (final Property property : properties) {
+                line(sb, 4, "case " + quote(property.name()) + ":");
+                line(sb, 5, "bean." + property.setter() + "(read" + property.method() + "(p, ctxt));");
+                line(sb, 5, "break;");
+            }
+            line(sb, 4, "default:");
+            line(sb, 5, "handleUnknownProperty(p, ctxt, bean, name);");
+            line(sb, 5, "break;");
+            line(sb, 3, "}");
+            line(sb, 2, "}");
+            line(sb, 2, "return bean;");
+            line(sb, 1, "}");
+            sb.append(methods);
+            sb.append("}\n");
+            return header(imports).append(sb).toString();
+        }
+
+        /**
+         * Emits {@code read<Path>(p, ctxt)} for a value whose first token is current, returning the method name.
+         */
+        private String read(final JavaType type, final String path) {
+            final String method = "read" + Character.toUpperCase(path.charAt(0)) + path.substring(1);
+            final String typeName = typeName(type);
+            final boolean primitive = type.isPrimitive();
+            final String boxed = primitive ? ClassUtil.wrapperType(type.getRawClass()).getSimpleName() : typeName;
+            final StringBuilder sb = new StringBuilder();
+            switch (kind(type)) {
+                case STRING -> scalar(sb, "JsonToken.VALUE_STRING", "p.getText()", typeName, false);
+                case LONG -> scalar(sb, "JsonToken.VALUE_NUMBER_INT", "p.getLongValue()", boxed, primitive);
+                case INTEGER -> scalar(sb, "JsonToken.VALUE_NUMBER_INT", "p.getIntValue()", boxed, primitive);
+                case DOUBLE -> scalar(sb, "JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_NUMBER_INT", "p.getDoubleValue()", boxed, primitive);
+                case BOOLEAN -> scalar(sb, "JsonToken.VALUE_TRUE || t == JsonToken.VALUE_FALSE", "t == JsonToken.VALUE_TRUE", boxed, primitive);
+                case ENUM -> {
+                    final Method jsonValue = jsonValue(type.getRawClass());
+                    final Method jsonCreator = jsonCreator(type.getRawClass());
+                    line(sb, 2, "final JsonToken t = p.currentToken();");
+                    line(sb, 2, "if (t == JsonToken.VALUE_STRING) {");
+                    line(sb, 3, "final String text = p.getText();");
+                    line(sb, 3, "switch (text) {");
+                    for (final Object constant : type.getRawClass().getEnumConstants()) {
+                        final Enum<?> value = (Enum<?>) constant;
+                        line(sb, 4, "case " + quote(jsonValue(value, jsonValue)) + ":");
+                        line(sb, 5, "return " + typeName + "." + value.name() + ";");
+                    }
+                    line(sb, 4, "default:");
+                    if (jsonCreator != null) {
+                        line(sb, 5, "return " + typeName + "." + jsonCreator.getName() + "(text);");
+                    } else {
+                        line(sb, 5, "return (" + typeName + ") ctxt.handleWeirdStringValue(" + typeName + ".class, text, \"not one of the values accepted for Enum class\");");
+                    }
+                    line(sb, 3, "}");
+                    line(sb, 2, "}");
+                    line(sb, 2, "if (t == JsonToken.VALUE_NULL) {");
+                    line(sb, 3, "return null;");
+                    line(sb, 2, "}");
+                    line(sb, 2, "return ctxt.readValue(p, " + typeName + ".class);");
+                }
+                case LIST -> {
+                    imports.add(ArrayList.class.getName());
+                    final String item = read(content(type), path + "Item");
+                    fallbacks.put(path, type);
+                    line(sb, 2, "final JsonToken t = p.currentToken();");
+                    line(sb, 2, "if (t == JsonToken.VALUE_NULL) {");
+                    line(sb, 3, "return null;");
+                    line(sb, 2, "}");
+                    line(sb, 2, "if (t != JsonToken.START_ARRAY) {");
+                    line(sb, 3, "return ctxt.readValue(p, " + path + "Type);");
+                    line(sb, 2, "}");
+                    line(sb, 2, "final " + typeName + " list = new ArrayList<>();");
+                    line(sb, 2, "while (p.nextToken() != JsonToken.END_ARRAY) {");
+                    line(sb, 3, "list.add(" + item + "(p, ctxt));");
+                    line(sb, 2, "}");
+                    line(sb, 2, "return list;");
+                }
+                case NULLABLE -> {
+                    final String content = read(content(type), path + "Content");
+                    line(sb, 2, "return JsonNullable.of(" + content + "(p, ctxt));");
+                }
+                case DELEGATE -> {
+                    delegates.put(path, type);
+                    line(sb, 2, "if (p.currentToken() == JsonToken.VALUE_NULL) {");
+                    line(sb, 3, "return (" + typeName + ") " + path + "Deserializer.getNullValue(ctxt);");
+                    line(sb, 2, "}");
+                    line(sb, 2, "return (" + typeName + ") " + path + "Deserializer.deserialize(p, ctxt);");
+                }
+            }
+            methods.append('\n');
+            line(methods, 1, "private " + typeName + " " + method + "(final JsonParser p, final DeserializationContext ctxt) throws IOException {");
+            methods.append(sb);
+            line(methods, 1, "}");
+            return method;
+        }
+
+        /**
+         * Fast path for the expected token; anything else goes through the mapper so coercions behave as usual.
+         */
+        private void scalar(final StringBuilder sb, final String tokens, final String value, final String type, final boolean primitive) {
+            line(sb, 2, "final JsonToken t = p.currentToken();");
+            line(sb, 2, "if (t == " + tokens + ") {");
+            line(sb, 3, "return " + value + ";");
+            line(sb, 2, "}");
+            if (!primitive) {
+                line(sb, 2, "if (t == JsonToken.VALUE_NULL) {");
+                line(sb, 3, "return null;");
+                line(sb, 2, "}");
+            }
+            line(sb, 2, "return ctxt.readValue(p, " + type + ".class);");
+        }
+    }
+}
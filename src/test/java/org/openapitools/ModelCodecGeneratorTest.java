@@ -0,0 +1,64 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Pet;
+import org.openapitools.model.codec.PetSerializer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ModelCodecGeneratorTest {
+
+    private static final Path SOURCES = Path.of("src/test/java").resolve(ModelCodecGenerator.PACKAGE.replace('.', '/'));
+
+    private static final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+
+    private static final Pet[] PET = petMaker.createPets();
+
+    @Test
+    void testGeneratedSourcesAreCurrent() throws Exception {
+        for (final Map.Entry<String, String> source : new ModelCodecGenerator().generate().entrySet()) {
+            assertEquals(source.getValue(), Files.readString(SOURCES.resolve(source.getKey() + ".java")),
+                    source.getKey() + " is stale, run mvn -Pcodegen process-test-classes");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ObjectMapper", "SmileMapper"})
+    void testSameBytesAsReflection(final String mapper) throws Exception {
+        final ObjectMapper reflective = mapper(mapper, Optimizer.NONE);
+        final ObjectMapper generated = mapper(mapper, Optimizer.GENERATED);
+        assertInstanceOf(PetSerializer.class, generated.getSerializerProviderInstance().findValueSerializer(Pet.class));
+        final Pet nulls = new Pet().status(null);
+        nulls.setLastModifiedOn(JsonNullable.of(LocalDate.of(2024, 2, 29)));
+        for (final Pet pet : new Pet[] { PET[0], PET[1], PET[2], nulls }) {
+            final byte[] bytes = reflective.writeValueAsBytes(pet);
+            assertArrayEquals(bytes, generated.writeValueAsBytes(pet));
+            assertEquals(reflective.readValue(bytes, Pet.class), generated.readValue(bytes, Pet.class));
+        }
+    }
+
+    @Test
+    void testUnknownPropertiesStillFail() throws Exception {
+        final ObjectMapper generated = mapper("ObjectMapper", Optimizer.GENERATED);
+        assertThrows(UnrecognizedPropertyException.class, () -> generated.readValue("{\"name\":\"x\",\"unknown\":1}", Pet.class));
+    }
+
+    private static ObjectMapper mapper(final String mapper, final Optimizer optimizer) {
+        return Mappers.configure("SmileMapper".equals(mapper) ? new SmileMapper() : new ObjectMapper(), optimizer);
+    }
+}
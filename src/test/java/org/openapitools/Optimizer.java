@@ -0,0 +1,36 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openapitools.model.codec.ModelCodecModule;
+
+import java.util.function.Supplier;
+
+/**
+ * Bean (de)serialization accelerators that can be registered on top of the standard mapper configuration.
+ * {@link #GENERATED} replaces the bean (de)serializers of the models with the ones emitted by {@link ModelCodecGenerator}.
+ */
+public enum Optimizer {
+    NONE("NONE", null),
+    AFTERBURNER("+AB", AfterburnerModule::new),
+    BLACKBIRD("+BB", BlackbirdModule::new),
+    GENERATED("+GEN", ModelCodecModule::new);
+
+    private final String label;
+
+    private final Supplier<Module> moduleSupplier;
+
+    Optimizer(final String label, final Supplier<Module> moduleSupplier) {
+        this.label = label;
+        this.moduleSupplier = moduleSupplier;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public Module module() {
+        return moduleSupplier == null ? null : moduleSupplier.get();
+    }
+}
@@ -0,0 +1,124 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Pet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic corpus of pets that, unlike {@link PetMaker#createPets()}, exercises the whole model: tag counts follow
+ * a configurable skew, {@code photoUrls} is populated, {@code status} and {@code lastModifiedOn} are set, null or
+ * undefined, and every {@link Pet.StatusEnum} value appears. Generating through Faker is slow, so a corpus is written
+ * once as a Smile fixture named after its {@link Config} and loaded from there on later runs.
+ */
+public final class PetCorpus {
+
+    /**
+     * Directory of the fixture files; override with {@code -Dcorpus.dir=...}.
+     */
+    public static final Path DIRECTORY = Path.of(System.getProperty("corpus.dir", "target/corpus"));
+
+    private static final ObjectMapper SMILE_MAPPER = Mappers.configure(new SmileMapper(), Optimizer.NONE);
+
+    /**
+     * @param size         number of pets
+     * @param seed         seed of the single {@link Random} everything is drawn from
+     * @param maxTags      largest tag count
+     * @param tagSkew      tag count is {@code maxTags * u^tagSkew} for uniform {@code u}; 1 is uniform, larger values
+     *                     make most pets small with a long tail of large ones
+     * @param maxPhotoUrls photo URL count is uniform in {@code [0, maxPhotoUrls]}
+     * @param nullRate     chance that a {@link JsonNullable} field is explicitly null
+     * @param undefinedRate chance that a {@link JsonNullable} field is left undefined
+     */
+    public record Config(int size, long seed, int maxTags, double tagSkew, int maxPhotoUrls, double nullRate, double undefinedRate) {
+
+        public static final Config DEFAULT = new Config(1_000, PetMaker.SEED, 1_000, 4.0, 5, 0.1, 0.1);
+
+        public Config {
+            if (size < 0 || maxTags < 0 || maxPhotoUrls < 0 || tagSkew <= 0 || nullRate < 0 || undefinedRate < 0 || nullRate + undefinedRate > 1) {
+                throw new IllegalArgumentException("Invalid corpus config " + this);
+            }
+        }
+
+        /**
+         * File name that changes with every parameter, so a fixture is never reused for a different config.
+         */
+        public String key() {
+            return String.format(Locale.ROOT, "pets-%d-%x-%d-%s-%d-%s-%s.smile", size, seed, maxTags, tagSkew, maxPhotoUrls, nullRate, undefinedRate);
+        }
+    }
+
+    private PetCorpus() {
+    }
+
+    /**
+     * Loads the corpus from its fixture under {@link #DIRECTORY}, generating and writing the fixture first if it is
+     * missing.
+     */
+    public static List<Pet> load(final Config config) throws IOException {
+        final Path fixture = DIRECTORY.resolve(config.key());
+        if (!Files.exists(fixture)) {
+            write(generate(config), fixture);
+        }
+        return read(fixture);
+    }
+
+    public static List<Pet> generate(final Config config) {
+        final Random random = new Random(config.seed());
+        final PetMaker petMaker = new PetMaker(random);
+        final Pet.StatusEnum[] statuses = Pet.StatusEnum.values();
+        final List<Pet> pets = new ArrayList<>(config.size());
+        for (int i = 0; i < config.size(); i++) {
+            final Pet pet = petMaker.createPet((int) (config.maxTags() * Math.pow(random.nextDouble(), config.tagSkew())));
+            final int photoUrls = random.nextInt(config.maxPhotoUrls() + 1);
+            for (int j = 0; j < photoUrls; j++) {
+                pet.addPhotoUrlsItem("https://petstore.example.com/photos/" + pet.getId() + "/" + j + ".jpg");
+            }
+            pet.setStatus(nullable(random, config, statuses[random.nextInt(statuses.length)]));
+            pet.setLastModifiedOn(nullable(random, config, pet.getCreatedOn().toLocalDate().plusDays(random.nextInt(365))));
+            pets.add(pet);
+        }
+        return pets;
+    }
+
+    /**
+     * Writes all pets as one Smile stream, through a temporary file so a concurrent reader never sees a partial one.
+     */
+    public static void write(final List<Pet> pets, final Path fixture) throws IOException {
+        Files.createDirectories(fixture.toAbsolutePath().getParent());
+        final Path tmp = Files.createTempFile(fixture.toAbsolutePath().getParent(), fixture.getFileName().toString(), ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp);
+             SequenceWriter writer = SMILE_MAPPER.writerFor(Pet.class).writeValues(out)) {
+            writer.writeAll(pets);
+        }
+        Files.move(tmp, fixture, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static List<Pet> read(final Path fixture) throws IOException {
+        try (InputStream in = Files.newInputStream(fixture);
+             MappingIterator<Pet> iterator = SMILE_MAPPER.readerFor(Pet.class).readValues(in)) {
+            return iterator.readAll(new ArrayList<>());
+        }
+    }
+
+    private static <T> JsonNullable<T> nullable(final Random random, final Config config, final T value) {
+        final double draw = random.nextDouble();
+        if (draw < config.undefinedRate()) {
+            return JsonNullable.undefined();
+        }
+        return draw < config.undefinedRate() + config.nullRate() ? JsonNullable.of(null) : JsonNullable.of(value);
+    }
+}
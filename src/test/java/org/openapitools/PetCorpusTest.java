@@ -0,0 +1,86 @@
+package org.openapitools;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Pet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PetCorpusTest {
+
+    private static final long NANOS_IN_A_MILLISECOND = 1_000_000L;
+
+    private static final PetCorpus.Config CONFIG = new PetCorpus.Config(500, PetMaker.SEED, 1_000, 4.0, 5, 0.1, 0.1);
+
+    @Test
+    void testDeterministic() {
+        assertEquals(PetCorpus.generate(CONFIG), PetCorpus.generate(CONFIG));
+    }
+
+    @Test
+    void testCoverage() {
+        final List<Pet> pets = PetCorpus.generate(CONFIG);
+        final Set<Pet.StatusEnum> statuses = EnumSet.noneOf(Pet.StatusEnum.class);
+        int nullStatus = 0;
+        int undefinedStatus = 0;
+        int nullLastModified = 0;
+        int undefinedLastModified = 0;
+        int setLastModified = 0;
+        int maxTags = 0;
+        int smallPets = 0;
+        int photoUrls = 0;
+        for (final Pet pet : pets) {
+            final JsonNullable<Pet.StatusEnum> status = pet.getStatus();
+            if (!status.isPresent()) {
+                undefinedStatus++;
+            } else if (status.get() == null) {
+                nullStatus++;
+            } else {
+                statuses.add(status.get());
+            }
+            final JsonNullable<?> lastModifiedOn = pet.getLastModifiedOn();
+            if (!lastModifiedOn.isPresent()) {
+                undefinedLastModified++;
+            } else if (lastModifiedOn.get() == null) {
+                nullLastModified++;
+            } else {
+                setLastModified++;
+            }
+            maxTags = Math.max(maxTags, pet.getTags().size());
+            smallPets += pet.getTags().size() < CONFIG.maxTags() / 10 ? 1 : 0;
+            photoUrls += pet.getPhotoUrls().size();
+        }
+        System.out.printf("%nCorpus:%s tags max=%,d small=%,d photoUrls=%,d status null=%d undefined=%d lastModifiedOn set=%d null=%d undefined=%d%n",
+                CONFIG.key(), maxTags, smallPets, photoUrls, nullStatus, undefinedStatus, setLastModified, nullLastModified, undefinedLastModified);
+        assertEquals(EnumSet.allOf(Pet.StatusEnum.class), statuses);
+        assertTrue(nullStatus > 0 && undefinedStatus > 0);
+        assertTrue(setLastModified > 0 && nullLastModified > 0 && undefinedLastModified > 0);
+        assertTrue(photoUrls > 0);
+        // skewed: most pets are small, a few are large
+        assertTrue(smallPets > pets.size() / 2);
+        assertTrue(maxTags > CONFIG.maxTags() / 2);
+    }
+
+    @Test
+    void testFixture(@TempDir final Path dir) throws Exception {
+        long startNS = System.nanoTime();
+        final List<Pet> pets = PetCorpus.generate(CONFIG);
+        final long generateNS = System.nanoTime() - startNS;
+        final Path fixture = dir.resolve(CONFIG.key());
+        PetCorpus.write(pets, fixture);
+        startNS = System.nanoTime();
+        final List<Pet> loaded = PetCorpus.read(fixture);
+        final long loadNS = System.nanoTime() - startNS;
+        System.out.printf("%nFixture:%s pets=%,d bytes=%,d generate=%,dms load=%,dms%n", CONFIG.key(), pets.size(), Files.size(fixture),
+                generateNS / NANOS_IN_A_MILLISECOND, loadNS / NANOS_IN_A_MILLISECOND);
+        assertEquals(pets, loaded);
+    }
+}
@@ -14,6 +14,10 @@ import java.util.Random;
 
 public class PetMaker {
 
+    public static final long SEED = 12384754124L;
+
+    public static final int[] TAG_COUNTS = { 0, 100, 1000 };
+
     private final Random random;
 
     private final Faker faker;
@@ -22,6 +26,15 @@ public class PetMaker {
         this.random = random;
         this.faker = new Faker(random);
     }
+
+    public Pet[] createPets() {
+        final Pet[] pets = new Pet[TAG_COUNTS.length];
+        for (int i = 0; i < TAG_COUNTS.length; i++) {
+            pets[i] = createPet(TAG_COUNTS[i]);
+        }
+        return pets;
+    }
+
     public Pet createPet(final int numTags) {
         final Pet pet = new Pet();
         pet.id(id());
@@ -0,0 +1,34 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * {@link JsonFactory} that takes its buffers from a {@link BufferRecyclerPool} instead of a {@code ThreadLocal}.
+ */
+public class PooledJsonFactory extends JsonFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient BufferRecyclerPool pool;
+
+    public PooledJsonFactory(final BufferRecyclerPool pool) {
+        this.pool = pool;
+    }
+
+    protected PooledJsonFactory(final PooledJsonFactory src, final ObjectCodec codec) {
+        super(src, codec);
+        this.pool = src.pool;
+    }
+
+    @Override
+    public JsonFactory copy() {
+        return new PooledJsonFactory(this, null);
+    }
+
+    @Override
+    public BufferRecycler _getBufferRecycler() {
+        return pool.acquire();
+    }
+}
@@ -0,0 +1,35 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * {@link SmileFactory} that takes its buffers from a {@link BufferRecyclerPool} instead of a {@code ThreadLocal}.
+ * Generator and parser features are copied from the given factory, e.g. one built by a {@link SmileProfile}.
+ */
+public class PooledSmileFactory extends SmileFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient BufferRecyclerPool pool;
+
+    public PooledSmileFactory(final BufferRecyclerPool pool) {
+        this(new SmileFactory(), pool);
+    }
+
+    public PooledSmileFactory(final SmileFactory src, final BufferRecyclerPool pool) {
+        super(src, null);
+        this.pool = pool;
+    }
+
+    @Override
+    public SmileFactory copy() {
+        return new PooledSmileFactory(this, pool);
+    }
+
+    @Override
+    public BufferRecycler _getBufferRecycler() {
+        return pool.acquire();
+    }
+}
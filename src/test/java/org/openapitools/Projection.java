@@ -0,0 +1,114 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads only a chosen set of properties of a bean from JSON or Smile. Selected properties are decoded in one pass and
+ * everything else is passed over with {@link JsonParser#skipChildren()}, so no nested objects, lists or dates are built
+ * for them; the pass stops as soon as every selected property has been seen. Any other property can still be fetched
+ * through {@link View#get(String)}, which decodes it from the original bytes on first access.
+ * <p>
+ * Instances are thread-safe; a {@link View} belongs to one thread.
+ */
+public final class Projection<T> {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Type of every property of the bean, by JSON name.
+     */
+    private final Map<String, JavaType> properties = new HashMap<>();
+
+    private final Map<String, JavaType> selected = new HashMap<>();
+
+    public Projection(final ObjectMapper objectMapper, final Class<T> type, final Set<String> fields) {
+        this.objectMapper = objectMapper;
+        for (final BeanPropertyDefinition property : objectMapper.getDeserializationConfig()
+                .introspect(objectMapper.constructType(type)).findProperties()) {
+            properties.put(property.getName(), property.getPrimaryType());
+        }
+        for (final String field : fields) {
+            selected.put(field, type(field));
+        }
+    }
+
+    public View read(final byte[] bytes) throws IOException {
+        final Map<String, Object> values = new HashMap<>();
+        try (JsonParser parser = objectMapper.createParser(bytes)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, Map.class, "Projection needs an object, got " + parser.currentToken());
+            }
+            while (values.size() < selected.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                final JavaType type = selected.get(name);
+                parser.nextToken();
+                if (type != null) {
+                    values.put(name, objectMapper.readValue(parser, type));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new View(bytes, values);
+    }
+
+    private JavaType type(final String field) {
+        final JavaType type = properties.get(field);
+        if (type == null) {
+            throw new IllegalArgumentException("No property '" + field + "' in " + properties.keySet());
+        }
+        return type;
+    }
+
+    /**
+     * Decoded properties of one message. A property missing from the message reads as {@code null}.
+     */
+    public final class View {
+
+        private final byte[] bytes;
+
+        private final Map<String, Object> values;
+
+        private View(final byte[] bytes, final Map<String, Object> values) {
+            this.bytes = bytes;
+            this.values = values;
+        }
+
+        /**
+         * Value of property {@code field}: a selected one straight away, any other one by parsing the original bytes
+         * up to it the first time it is asked for.
+         */
+        @SuppressWarnings("unchecked")
+        public <V> V get(final String field) throws IOException {
+            if (!values.containsKey(field) && !selected.containsKey(field)) {
+                values.put(field, decode(field, type(field)));
+            }
+            return (V) values.get(field);
+        }
+
+        private Object decode(final String field, final JavaType type) throws IOException {
+            try (JsonParser parser = objectMapper.createParser(bytes)) {
+                parser.nextToken();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final boolean match = field.equals(parser.currentName());
+                    parser.nextToken();
+                    if (match) {
+                        return objectMapper.readValue(parser, type);
+                    }
+                    parser.skipChildren();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectionTest {
+
+    private static final Pet[] PET = new PetMaker(new Random(PetMaker.SEED)).createPets();
+
+    private static final Set<String> ROUTING = Set.of("id", "name", "status");
+
+    private static final int WARM_ITERATIONS = 2_000;
+
+    private static final int RECORD_ITERATIONS = 5_000;
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testProjection(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final Projection<Pet> projection = new Projection<>(objectMapper, Pet.class, ROUTING);
+        for (final Pet pet : PetCorpus.generate(new PetCorpus.Config(50, PetMaker.SEED, 20, 2.0, 3, 0.2, 0.2))) {
+            final Projection<Pet>.View view = projection.read(objectMapper.writeValueAsBytes(pet));
+            assertEquals(pet.getId(), view.get("id"));
+            assertEquals(pet.getName(), view.get("name"));
+            // undefined is not written, so it reads back as missing
+            assertEquals(pet.getStatus().isPresent() ? pet.getStatus() : null, view.get("status"));
+            assertEquals(pet.getCategory(), view.get("category"));
+            assertEquals(pet.getTags(), view.get("tags"));
+            assertEquals(pet.getPhotoUrls(), view.get("photoUrls"));
+            assertEquals(pet.getCreatedOn(), view.get("createdOn"));
+            assertEquals(pet.getLastModifiedOn().isPresent() ? pet.getLastModifiedOn() : null, view.get("lastModifiedOn"));
+        }
+        final Projection<Pet>.View empty = projection.read(objectMapper.writeValueAsBytes(new Pet()));
+        assertNull(empty.get("id"));
+        assertNull(empty.get("tags"));
+        assertThrows(IllegalArgumentException.class, () -> new Projection<>(objectMapper, Pet.class, Set.of("owner")));
+        assertThrows(IllegalArgumentException.class, () -> empty.get("owner"));
+    }
+
+    /**
+     * Full {@code readValue} of PET[2] against projecting the routing fields, and against projecting them and then
+     * also touching a deferred field.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testProjectionSpeed(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final Projection<Pet> projection = new Projection<>(objectMapper, Pet.class, ROUTING);
+        final Pet pet = PET[2];
+        final byte[] bytes = objectMapper.writeValueAsBytes(pet);
+        final String nm = format.label() + ":2/" + pet.getTags().size();
+        final Measure.Measurement full = measure(() -> objectMapper.readValue(bytes, Pet.class));
+        final Measure.Measurement routing = measure(() -> {
+            final Projection<Pet>.View view = projection.read(bytes);
+            return List.of(view.get("id"), view.get("name"), view.get("status"));
+        });
+        final Measure.Measurement deferred = measure(() -> {
+            final Projection<Pet>.View view = projection.read(bytes);
+            return List.of(view.get("id"), view.get("name"), view.get("status"), view.get("category"));
+        });
+        System.out.printf("%n%nProjection:%s%n", nm);
+        Measure.report(nm, "DeSerialize", List.of("full", "projected", "+deferred"), full, routing, deferred);
+    }
+
+    private static Measure.Measurement measure(final Measure.Operation operation) throws Exception {
+        return Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, operation);
+    }
+}
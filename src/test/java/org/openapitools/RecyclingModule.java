@@ -0,0 +1,439 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.BeanDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.ContainerDeserializerBase;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Makes {@link ObjectMapper#readerForUpdating(Object)} decode a message into an existing object graph as if it were
+ * decoded from scratch, while reusing as much of that graph as possible:
+ * <ul>
+ * <li>nested beans are updated in place instead of replaced,</li>
+ * <li>lists are overwritten element by element, keeping their capacity and updating the element at each index in
+ * place, so the {@code Tag}s of the previous message become the {@code Tag}s of this one,</li>
+ * <li>a {@code String} or {@code Long} equal to the current value keeps the current instance,</li>
+ * <li>a property missing from the message is set back to the value a fresh bean has, where plain
+ * {@code readerForUpdating} would keep the old value; an empty list is cleared rather than replaced.</li>
+ * </ul>
+ * Without a value to update the mapper reads exactly as before. Polymorphic list elements and beans with more than 64
+ * properties are not reused.
+ */
+public final class RecyclingModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_PROPERTIES = Long.SIZE;
+
+    /**
+     * Properties seen so far, one mask per bean currently being decoded on this thread.
+     */
+    private static final ThreadLocal<Frames> FRAMES = ThreadLocal.withInitial(Frames::new);
+
+    public RecyclingModule() {
+        super("RecyclingModule");
+        addDeserializer(String.class, new RecyclingStringDeserializer());
+        addDeserializer(Long.class, new RecyclingLongDeserializer());
+        setDeserializerModifier(new RecyclingModifier());
+    }
+
+    private static final class Frames {
+
+        private long[] seen = new long[8];
+
+        private int depth;
+
+        void push() {
+            if (depth == seen.length) {
+                seen = Arrays.copyOf(seen, depth * 2);
+            }
+            seen[depth++] = 0L;
+        }
+
+        long pop() {
+            return seen[--depth];
+        }
+
+        void mark(final int index) {
+            if (depth > 0) {
+                seen[depth - 1] |= 1L << index;
+            }
+        }
+    }
+
+    private static final class RecyclingModifier extends BeanDeserializerModifier {
+
+        @Override
+        public BeanDeserializerBuilder updateBuilder(final DeserializationConfig config, final BeanDescription beanDesc,
+                                                     final BeanDeserializerBuilder builder) {
+            final Map<String, AnnotatedMember> accessors = new HashMap<>();
+            for (final BeanPropertyDefinition definition : beanDesc.findProperties()) {
+                accessors.put(definition.getName(), definition.getAccessor());
+            }
+            final List<SettableBeanProperty> properties = new ArrayList<>();
+            builder.getProperties().forEachRemaining(properties::add);
+            if (properties.size() > MAX_PROPERTIES || builder.getValueInstantiator() == null
+                    || !builder.getValueInstantiator().canCreateUsingDefault()) {
+                return builder;
+            }
+            for (final SettableBeanProperty property : properties) {
+                if (accessors.get(property.getName()) == null) {
+                    return builder;
+                }
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                final SettableBeanProperty property = properties.get(i);
+                builder.addOrReplaceProperty(new TrackingProperty(property, i, accessors.get(property.getName())), true);
+            }
+            return builder;
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(final DeserializationConfig config, final BeanDescription beanDesc,
+                                                      final JsonDeserializer<?> deserializer) {
+            if (deserializer instanceof BeanDeserializer bean && bean.properties().hasNext()
+                    && bean.properties().next() instanceof TrackingProperty) {
+                return new ResettingDeserializer(deserializer);
+            }
+            return deserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyCollectionDeserializer(final DeserializationConfig config, final CollectionType type,
+                                                                final BeanDescription beanDesc, final JsonDeserializer<?> deserializer) {
+            if (deserializer instanceof ContainerDeserializerBase && List.class.isAssignableFrom(type.getRawClass())
+                    && type.getContentType().getTypeHandler() == null) {
+                return new RecyclingListDeserializer(deserializer);
+            }
+            return deserializer;
+        }
+    }
+
+    /**
+     * Records that its property was present in the message and, when the bean already holds a value that can be
+     * updated, decodes into that value.
+     */
+    private static final class TrackingProperty extends SettableBeanProperty.Delegating {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private final AnnotatedMember accessor;
+
+        TrackingProperty(final SettableBeanProperty delegate, final int index, final AnnotatedMember accessor) {
+            super(delegate);
+            this.index = index;
+            this.accessor = accessor;
+        }
+
+        @Override
+        protected SettableBeanProperty withDelegate(final SettableBeanProperty delegate) {
+            return new TrackingProperty(delegate, index, accessor);
+        }
+
+        @Override
+        public void deserializeAndSet(final JsonParser p, final DeserializationContext ctxt, final Object instance) throws IOException {
+            FRAMES.get().mark(index);
+            final Object current = accessor.getValue(instance);
+            final JsonDeserializer<Object> deserializer = getValueDeserializer();
+            final Object value;
+            // an undefined JsonNullable has no value to update, and its reference deserializer would fail asking for one
+            if (current != null && !(current instanceof JsonNullable<?> nullable && !nullable.isPresent())
+                    && !p.hasToken(JsonToken.VALUE_NULL)
+                    && getValueTypeDeserializer() == null
+                    && Boolean.TRUE.equals(deserializer.supportsUpdate(ctxt.getConfig()))) {
+                value = deserializer.deserialize(p, ctxt, current);
+            } else {
+                value = deserialize(p, ctxt);
+            }
+            if (value != current) {
+                set(instance, value);
+            }
+        }
+
+        @Override
+        public Object deserializeSetAndReturn(final JsonParser p, final DeserializationContext ctxt, final Object instance) throws IOException {
+            deserializeAndSet(p, ctxt, instance);
+            return instance;
+        }
+
+        Object get(final Object instance) {
+            return accessor.getValue(instance);
+        }
+    }
+
+    /**
+     * Opens a frame for the properties of each bean and, after updating a bean, resets the ones the message did not
+     * carry.
+     */
+    private static final class ResettingDeserializer extends DelegatingDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Properties by index, and the value of each in a freshly constructed bean; built on the first update.
+         */
+        private transient volatile TrackingProperty[] properties;
+
+        private transient volatile Object[] absent;
+
+        ResettingDeserializer(final JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+            return new ResettingDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            final Frames frames = FRAMES.get();
+            frames.push();
+            try {
+                return _delegatee.deserialize(p, ctxt);
+            } finally {
+                frames.pop();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object deserialize(final JsonParser p, final DeserializationContext ctxt, final Object intoValue) throws IOException {
+            final Frames frames = FRAMES.get();
+            frames.push();
+            final long seen;
+            final Object value;
+            try {
+                value = ((JsonDeserializer<Object>) _delegatee).deserialize(p, ctxt, intoValue);
+            } finally {
+                seen = frames.pop();
+            }
+            if (properties == null) {
+                initialize(ctxt);
+            }
+            for (int i = 0; i < properties.length; i++) {
+                if ((seen & (1L << i)) == 0) {
+                    reset(ctxt, value, i);
+                }
+            }
+            return value;
+        }
+
+        private void reset(final DeserializationContext ctxt, final Object bean, final int index) throws IOException {
+            final Object current = properties[index].get(bean);
+            Object fresh = absent[index];
+            if (current == fresh) {
+                return;
+            }
+            if (fresh instanceof Collection<?> empty && empty.isEmpty()) {
+                if (current instanceof Collection<?> collection) {
+                    collection.clear();
+                    return;
+                }
+                // never hand out the shared template collection
+                fresh = properties[index].get(((BeanDeserializerBase) _delegatee).getValueInstantiator().createUsingDefault(ctxt));
+            }
+            properties[index].set(bean, fresh);
+        }
+
+        private void initialize(final DeserializationContext ctxt) throws IOException {
+            final BeanDeserializerBase bean = (BeanDeserializerBase) _delegatee;
+            final Object template = bean.getValueInstantiator().createUsingDefault(ctxt);
+            final List<TrackingProperty> tracked = new ArrayList<>();
+            for (final Iterator<SettableBeanProperty> it = bean.properties(); it.hasNext(); ) {
+                final SettableBeanProperty property = it.next();
+                if (property instanceof TrackingProperty tracking) {
+                    tracked.add(tracking);
+                }
+            }
+            final TrackingProperty[] byIndex = new TrackingProperty[tracked.size()];
+            final Object[] values = new Object[byIndex.length];
+            for (final TrackingProperty property : tracked) {
+                byIndex[property.index] = property;
+                values[property.index] = property.get(template);
+            }
+            absent = values;
+            properties = byIndex;
+        }
+    }
+
+    /**
+     * Overwrites a list in place: element {@code i} of the message is decoded into element {@code i} of the list when
+     * the element type can be updated, surplus elements are dropped and the capacity is kept.
+     */
+    private static final class RecyclingListDeserializer extends DelegatingDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        RecyclingListDeserializer(final JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(final JsonDeserializer<?> newDelegatee) {
+            return new RecyclingListDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Boolean supportsUpdate(final DeserializationConfig config) {
+            return Boolean.TRUE;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object deserialize(final JsonParser p, final DeserializationContext ctxt, final Object intoValue) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return _delegatee.deserialize(p, ctxt);
+            }
+            final List<Object> list = (List<Object>) intoValue;
+            final JsonDeserializer<Object> content = content();
+            final boolean update = Boolean.TRUE.equals(content.supportsUpdate(ctxt.getConfig()));
+            final int size = list.size();
+            int i = 0;
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                final Object current = i < size ? list.get(i) : null;
+                final Object value;
+                if (token == JsonToken.VALUE_NULL) {
+                    value = content.getNullValue(ctxt);
+                } else if (update && current != null) {
+                    value = content.deserialize(p, ctxt, current);
+                } else {
+                    value = content.deserialize(p, ctxt);
+                }
+                if (i < size) {
+                    if (value != current) {
+                        list.set(i, value);
+                    }
+                } else {
+                    list.add(value);
+                }
+                i++;
+            }
+            if (i < size) {
+                list.subList(i, size).clear();
+            }
+            return list;
+        }
+
+        /**
+         * Element deserializer; a list of plain strings leaves it unset and reads the text itself.
+         */
+        @SuppressWarnings("unchecked")
+        private JsonDeserializer<Object> content() {
+            final JsonDeserializer<Object> content = ((ContainerDeserializerBase<Object>) _delegatee).getContentDeserializer();
+            return content != null ? content : (JsonDeserializer<Object>) (JsonDeserializer<?>) StringDeserializer.instance;
+        }
+    }
+
+    /**
+     * Keeps the current {@code String} when the token has the same characters, compared where {@link TokenText} finds
+     * them.
+     */
+    private static final class RecyclingStringDeserializer extends StdScalarDeserializer<String> implements TokenText.Visitor<String, String> {
+
+        private static final long serialVersionUID = 1L;
+
+        RecyclingStringDeserializer() {
+            super(String.class);
+        }
+
+        @Override
+        public Boolean supportsUpdate(final DeserializationConfig config) {
+            return Boolean.TRUE;
+        }
+
+        @Override
+        public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            return StringDeserializer.instance.deserialize(p, ctxt);
+        }
+
+        @Override
+        public String deserialize(final JsonParser p, final DeserializationContext ctxt, final String intoValue) throws IOException {
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                return deserialize(p, ctxt);
+            }
+            return TokenText.visit(p, this, intoValue);
+        }
+
+        @Override
+        public String chars(final char[] chars, final int offset, final int length, final String intoValue) {
+            if (length != intoValue.length()) {
+                return new String(chars, offset, length);
+            }
+            for (int i = 0; i < length; i++) {
+                if (chars[offset + i] != intoValue.charAt(i)) {
+                    return new String(chars, offset, length);
+                }
+            }
+            return intoValue;
+        }
+
+        @Override
+        public String string(final String text, final String intoValue) {
+            return text.equals(intoValue) ? intoValue : text;
+        }
+    }
+
+    /**
+     * Keeps the current {@code Long} when the token has the same value, saving the box outside the small-value cache.
+     */
+    private static final class RecyclingLongDeserializer extends StdScalarDeserializer<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final NumberDeserializers.LongDeserializer DELEGATE = new NumberDeserializers.LongDeserializer(Long.class, null);
+
+        RecyclingLongDeserializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public Boolean supportsUpdate(final DeserializationConfig config) {
+            return Boolean.TRUE;
+        }
+
+        @Override
+        public Long deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            return DELEGATE.deserialize(p, ctxt);
+        }
+
+        @Override
+        public Long deserialize(final JsonParser p, final DeserializationContext ctxt, final Long intoValue) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT) && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER
+                    && p.getLongValue() == intoValue) {
+                return intoValue;
+            }
+            return deserialize(p, ctxt);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Pet;
+import org.openapitools.model.Tag;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RecyclingModuleTest {
+
+    private static final Pet[] PET = new PetMaker(new Random(PetMaker.SEED)).createPets();
+
+    private static final int WARM_ITERATIONS = 2_000;
+
+    private static final int RECORD_ITERATIONS = 5_000;
+
+    static final class Nickname {
+
+        public JsonNullable<String> nickname = JsonNullable.undefined();
+    }
+
+    /**
+     * Decodes a varied corpus one message after the other into the same {@link Pet}; after every message it must equal
+     * a fresh decode, so nothing may leak over from the previous one.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testRecycling(final Format format) throws Exception {
+        final ObjectMapper plain = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectMapper recycling = Mappers.configure(format.mapper(), Optimizer.NONE).registerModule(new RecyclingModule());
+        final Pet target = new Pet();
+        final ObjectReader reader = recycling.readerForUpdating(target);
+        final List<Pet> corpus = PetCorpus.generate(new PetCorpus.Config(200, PetMaker.SEED, 20, 2.0, 3, 0.2, 0.2));
+        for (final Pet pet : corpus) {
+            final byte[] bytes = plain.writeValueAsBytes(pet);
+            assertSame(target, reader.readValue(bytes));
+            assertEquals(plain.readValue(bytes, Pet.class), target);
+            assertEquals(plain.readValue(bytes, Pet.class), recycling.readValue(bytes, Pet.class));
+        }
+        final byte[] empty = plain.writeValueAsBytes(new Pet());
+        reader.readValue(empty);
+        assertEquals(plain.readValue(empty, Pet.class), target);
+
+        final byte[] bytes = plain.writeValueAsBytes(PET[2]);
+        reader.readValue(bytes);
+        final List<Tag> tags = target.getTags();
+        final Tag first = tags.get(0);
+        final String name = first.getName();
+        reader.readValue(bytes);
+        assertEquals(PET[2], target);
+        assertSame(tags, target.getTags());
+        assertSame(first, target.getTags().get(0));
+        assertSame(name, target.getTags().get(0).getName());
+    }
+
+    /**
+     * An undefined {@code JsonNullable} holds nothing to update, so it is replaced like a {@code null}.
+     */
+    @Test
+    void testUndefinedNullable() throws Exception {
+        final ObjectMapper recycling = Mappers.configure(Format.JSON.mapper(), Optimizer.NONE).registerModule(new RecyclingModule());
+        final Nickname target = new Nickname();
+        final ObjectReader reader = recycling.readerForUpdating(target);
+        reader.readValue("{\"nickname\":\"Rex\"}");
+        assertEquals(JsonNullable.of("Rex"), target.nickname);
+        reader.readValue("{\"nickname\":\"Max\"}");
+        assertEquals(JsonNullable.of("Max"), target.nickname);
+        reader.readValue("{}");
+        assertEquals(JsonNullable.undefined(), target.nickname);
+    }
+
+    /**
+     * A fresh {@code readValue} per message against decoding every message into the same {@link Pet}, in steady state.
+     * With Smile the tag names are still allocated on each message, as {@link TokenText} explains; with JSON they are
+     * not.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testRecyclingSpeed(final Format format) throws Exception {
+        final ObjectMapper plain = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectMapper recycling = Mappers.configure(format.mapper(), Optimizer.NONE).registerModule(new RecyclingModule());
+        System.out.printf("%n%nRecycling:%s%n", format.label());
+        for (int i = 0; i < PET.length; i++) {
+            final byte[] bytes = plain.writeValueAsBytes(PET[i]);
+            final ObjectReader reader = recycling.readerForUpdating(new Pet());
+            final String nm = format.label() + ":" + i + "/" + PET[i].getTags().size();
+            final Measure.Measurement fresh = Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, () -> plain.readValue(bytes, Pet.class));
+            final Measure.Measurement reused = Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, () -> reader.readValue(bytes));
+            Measure.report(nm, "DeSerialize", List.of("fresh", "reused"), fresh, reused);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openapitools.model.Pet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Speed of each {@link SmileProfile} across the PET sizes; payload sizes are printed by
+ * {@link JacksonPerformanceTest#testSmileProfiles()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SmileProfileBenchmark {
+
+    @Param({"DEFAULT", "SHARED_NAMES_AND_STRINGS", "SHARED_STRINGS", "NOT_SHARED", "RAW_BINARY"})
+    public SmileProfile profile;
+
+    @Param({"0", "1", "2"})
+    public int petNum;
+
+    private ObjectMapper objectMapper;
+
+    private Pet pet;
+
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        objectMapper = Mappers.configure(profile.mapper(), Optimizer.NONE);
+        pet = new PetMaker(new Random(PetMaker.SEED)).createPets()[petNum];
+        bytes = objectMapper.writeValueAsBytes(pet);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(pet);
+    }
+
+    @Benchmark
+    public Pet deserialize() throws Exception {
+        return objectMapper.readValue(bytes, Pet.class);
+    }
+}
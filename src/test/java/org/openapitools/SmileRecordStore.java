@@ -0,0 +1,459 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * File of length-prefixed Smile records: a 4-byte big-endian length followed by one self-contained Smile document, so
+ * every record can be decoded on its own. Records are appended through an {@link Appender} and read back through a
+ * {@link Reader} that maps the file with {@link FileChannel#map} and decodes from the mapping through
+ * {@link ByteBufferCodec}. That still copies each record, a chunk at a time, into Jackson's recycled input buffer, but
+ * never into a {@code byte[]} of its own and without a read system call per record.
+ * <p>
+ * Next to the data file the appender keeps a small offset index ({@code <file>.idx}) holding the offset of every
+ * {@code blockSize}-th record. Readers use it to open without touching every record, to reach a record by walking at
+ * most one block, and to hand whole blocks to the threads of a {@link ForkJoinPool}. A missing or stale index, left
+ * behind by a crash during appending, is rebuilt by scanning the data file up to the last complete record. Readers
+ * ignore whatever follows it, the record the crash cut short, and the next appender truncates the file there.
+ * <p>
+ * One mapping is limited to 2 GiB, so larger files are mapped as several segments, each holding whole blocks so no
+ * record straddles two of them.
+ */
+public final class SmileRecordStore {
+
+    /**
+     * Largest mapping {@link FileChannel#map} allows.
+     */
+    public static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Records per index entry.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    static final int HEADER_SIZE = Integer.BYTES;
+
+    private static final int INDEX_MAGIC = 0x53524958;
+
+    private final SmileMapper smileMapper;
+
+    private final int maxSegmentSize;
+
+    private final int blockSize;
+
+    public SmileRecordStore(final SmileMapper smileMapper) {
+        this(smileMapper, MAX_SEGMENT_SIZE, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param maxSegmentSize largest mapping to create; smaller values only make sense for exercising multi-segment
+     *                       files without writing gigabytes
+     * @param blockSize      records per index entry, and per task when decoding in parallel; a whole block must fit
+     *                       in one segment
+     */
+    public SmileRecordStore(final SmileMapper smileMapper, final int maxSegmentSize, final int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.smileMapper = smileMapper;
+        this.maxSegmentSize = maxSegmentSize;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Opens {@code file} for appending, creating it if needed. The index is rewritten when the appender is closed.
+     */
+    public Appender appender(final Path file) throws IOException {
+        return new Appender(smileMapper, file, Index.open(file, blockSize, maxSegmentSize), maxSegmentSize);
+    }
+
+    /**
+     * Maps {@code file}. Records appended later are not visible to this reader.
+     */
+    public <T> Reader<T> reader(final Path file, final Class<T> type) throws IOException {
+        return new Reader<>(smileMapper, file, type, Index.open(file, blockSize, maxSegmentSize), maxSegmentSize);
+    }
+
+    static Path indexFile(final Path file) {
+        return file.resolveSibling(file.getFileName() + ".idx");
+    }
+
+    public static final class Appender implements Closeable {
+
+        private final SmileMapper smileMapper;
+
+        private final Path file;
+
+        private final Index index;
+
+        private final int maxRecordSize;
+
+        private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+
+        private final DataOutputStream out;
+
+        private Appender(final SmileMapper smileMapper, final Path file, final Index index, final int maxSegmentSize) throws IOException {
+            this.smileMapper = smileMapper;
+            this.file = file;
+            this.index = index;
+            this.maxRecordSize = maxSegmentSize - HEADER_SIZE;
+            if (Files.exists(file) && Files.size(file) > index.length()) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(index.length());
+                }
+            }
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)));
+        }
+
+        public void append(final Object value) throws IOException {
+            record.reset();
+            smileMapper.writeValue(record, value);
+            if (record.size() > maxRecordSize) {
+                throw new IOException("Smile record of " + record.size() + " bytes exceeds the " + maxRecordSize + " byte limit");
+            }
+            out.writeInt(record.size());
+            record.writeTo(out);
+            index.add(record.size());
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+            index.write(indexFile(file));
+        }
+    }
+
+    public static final class Reader<T> implements Closeable {
+
+        private final ByteBufferCodec codec;
+
+        private final Class<T> type;
+
+        private final FileChannel channel;
+
+        private final Index index;
+
+        private final MappedByteBuffer[] segments;
+
+        /**
+         * File offset at which each segment starts.
+         */
+        private final long[] segmentStarts;
+
+        /**
+         * Segment holding each block.
+         */
+        private final int[] blockSegments;
+
+        /**
+         * Position of every record within its segment, filled in one block at a time by {@link #read(int)}.
+         */
+        private final AtomicReferenceArray<int[]> recordPositions;
+
+        private Reader(final SmileMapper smileMapper, final Path file, final Class<T> type, final Index index, final int maxSegmentSize) throws IOException {
+            this.codec = new ByteBufferCodec(smileMapper);
+            this.type = type;
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.index = index;
+            final int blocks = index.blocks();
+            final List<MappedByteBuffer> mapped = new ArrayList<>();
+            final List<Long> starts = new ArrayList<>();
+            this.blockSegments = new int[blocks];
+            this.recordPositions = new AtomicReferenceArray<>(blocks);
+            for (int block = 0; block < blocks; ) {
+                final long start = index.blockStart(block);
+                int last = block;
+                while (last + 1 < blocks && index.blockEnd(last + 1) - start <= maxSegmentSize) {
+                    last++;
+                }
+                final long length = index.blockEnd(last) - start;
+                if (length > maxSegmentSize) {
+                    throw new IOException("Block " + block + " of " + file + " spans " + length + " bytes, more than one segment; use a smaller block size");
+                }
+                for (int i = block; i <= last; i++) {
+                    blockSegments[i] = mapped.size();
+                }
+                mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, start, length));
+                starts.add(start);
+                block = last + 1;
+            }
+            this.segments = mapped.toArray(new MappedByteBuffer[0]);
+            this.segmentStarts = starts.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        public int size() {
+            return index.records();
+        }
+
+        public int segmentCount() {
+            return segments.length;
+        }
+
+        /**
+         * Decodes record {@code record}. The first access to a block walks its length prefixes once and keeps their
+         * positions, so later reads in that block go straight to the record. Thread-safe: every call works on its own
+         * slice of the mapping.
+         *
+         * @throws IndexOutOfBoundsException if {@code record} is negative or not less than {@link #size()}
+         */
+        public T read(final int record) throws IOException {
+            if (record < 0 || record >= size()) {
+                throw new IndexOutOfBoundsException("Record " + record + " out of bounds for size " + size());
+            }
+            final int block = record / index.blockSize();
+            int[] positions = recordPositions.get(block);
+            if (positions == null) {
+                positions = new int[Math.min(index.blockSize(), size() - block * index.blockSize())];
+                final ByteBuffer segment = segments[blockSegments[block]];
+                int position = blockPosition(block);
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = position;
+                    position += HEADER_SIZE + segment.getInt(position);
+                }
+                // a racing thread computes the same positions, so either array may win
+                recordPositions.set(block, positions);
+            }
+            return read(segments[blockSegments[block]], positions[record % index.blockSize()]);
+        }
+
+        /**
+         * Decodes every record in file order.
+         */
+        public void forEach(final Consumer<? super T> consumer) throws IOException {
+            for (final MappedByteBuffer segment : segments) {
+                for (int position = 0; position < segment.capacity(); position += HEADER_SIZE + segment.getInt(position)) {
+                    consumer.accept(read(segment, position));
+                }
+            }
+        }
+
+        /**
+         * Decodes every record on {@code pool}, one block per task, and returns them in file order.
+         */
+        @SuppressWarnings("unchecked")
+        public List<T> readAll(final ForkJoinPool pool) throws IOException {
+            if (index.blocks() == 0) {
+                return List.of();
+            }
+            final Object[] values = new Object[size()];
+            try {
+                pool.invoke(new DecodeTask(values, 0, index.blocks()));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return (List<T>) Arrays.asList(values);
+        }
+
+        private int blockPosition(final int block) {
+            return (int) (index.blockStart(block) - segmentStarts[blockSegments[block]]);
+        }
+
+        private T read(final ByteBuffer segment, final int position) throws IOException {
+            return codec.read(segment.slice(position + HEADER_SIZE, segment.getInt(position)), type);
+        }
+
+        /**
+         * Closes the channel. The mappings stay valid until they are garbage collected, as Java offers no safe unmap.
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private final class DecodeTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final Object[] values;
+
+            private final int fromBlock;
+
+            private final int toBlock;
+
+            private DecodeTask(final Object[] values, final int fromBlock, final int toBlock) {
+                this.values = values;
+                this.fromBlock = fromBlock;
+                this.toBlock = toBlock;
+            }
+
+            @Override
+            protected void compute() {
+                if (fromBlock >= toBlock) {
+                    return;
+                }
+                if (toBlock - fromBlock > 1) {
+                    final int middle = (fromBlock + toBlock) >>> 1;
+                    invokeAll(new DecodeTask(values, fromBlock, middle), new DecodeTask(values, middle, toBlock));
+                    return;
+                }
+                final ByteBuffer segment = segments[blockSegments[fromBlock]];
+                int position = blockPosition(fromBlock);
+                final int end = Math.min(values.length, (fromBlock + 1) * index.blockSize());
+                try {
+                    for (int i = fromBlock * index.blockSize(); i < end; i++) {
+                        values[i] = read(segment, position);
+                        position += HEADER_SIZE + segment.getInt(position);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sparse offset index: the offset of every {@code blockSize}-th record, the record count and the length of the
+     * data it covers. An index whose length differs from the data file's is stale.
+     */
+    private static final class Index {
+
+        private final int blockSize;
+
+        private long[] blockStarts = new long[16];
+
+        private int records;
+
+        private long length;
+
+        private Index(final int blockSize) {
+            this.blockSize = blockSize;
+        }
+
+        static Index open(final Path file, final int blockSize, final int maxSegmentSize) throws IOException {
+            if (!Files.exists(file)) {
+                return new Index(blockSize);
+            }
+            final Index index = load(indexFile(file), blockSize, Files.size(file));
+            return index != null ? index : scan(file, blockSize, maxSegmentSize);
+        }
+
+        /**
+         * @return the index, or {@code null} if it is missing, stale or for another block size
+         */
+        private static Index load(final Path indexFile, final int blockSize, final long length) throws IOException {
+            if (!Files.exists(indexFile)) {
+                return null;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                if (in.readInt() != INDEX_MAGIC || in.readInt() != blockSize || in.readLong() != length) {
+                    return null;
+                }
+                final Index index = new Index(blockSize);
+                index.records = in.readInt();
+                index.length = length;
+                index.blockStarts = new long[Math.max(1, index.blocks())];
+                for (int i = 0; i < index.blocks(); i++) {
+                    index.blockStarts[i] = in.readLong();
+                }
+                return index;
+            }
+        }
+
+        /**
+         * Indexes the records of {@code file} up to the first one that is cut short, corrupt or larger than a segment.
+         */
+        private static Index scan(final Path file, final int blockSize, final int maxSegmentSize) throws IOException {
+            final Index index = new Index(blockSize);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                int position = -1;
+                // a window starts at a record, so one that holds no whole record ends the complete ones
+                while (index.length < size && position != 0) {
+                    final MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, index.length, Math.min(maxSegmentSize, size - index.length));
+                    position = 0;
+                    while (fits(window, position)) {
+                        index.add(window.getInt(position));
+                        position += HEADER_SIZE + window.getInt(position);
+                    }
+                }
+            }
+            return index;
+        }
+
+        private static boolean fits(final ByteBuffer window, final int position) {
+            if (position + (long) HEADER_SIZE > window.capacity()) {
+                return false;
+            }
+            final int length = window.getInt(position);
+            return length >= 0 && position + HEADER_SIZE + (long) length <= window.capacity();
+        }
+
+        void add(final int recordLength) {
+            if (records % blockSize == 0) {
+                if (blocks() == blockStarts.length) {
+                    blockStarts = Arrays.copyOf(blockStarts, 2 * blockStarts.length);
+                }
+                blockStarts[blocks()] = length;
+            }
+            records++;
+            length += HEADER_SIZE + recordLength;
+        }
+
+        /**
+         * Writes through a temporary file, so a reader never sees half an index.
+         */
+        void write(final Path indexFile) throws IOException {
+            final Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(blockSize);
+                out.writeLong(length);
+                out.writeInt(records);
+                for (int i = 0; i < blocks(); i++) {
+                    out.writeLong(blockStarts[i]);
+                }
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        int blockSize() {
+            return blockSize;
+        }
+
+        int records() {
+            return records;
+        }
+
+        /**
+         * Length of the data covered, which is short of the file's after a crash in the middle of an append.
+         */
+        long length() {
+            return length;
+        }
+
+        int blocks() {
+            return (records + blockSize - 1) / blockSize;
+        }
+
+        long blockStart(final int block) {
+            return blockStarts[block];
+        }
+
+        long blockEnd(final int block) {
+            return block + 1 < blocks() ? blockStarts[block + 1] : length;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openapitools.model.Pet;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmileRecordStoreTest {
+
+    private static final long BYTES_IN_A_MEGABYTE = 1024L * 1024L;
+
+    /**
+     * Records in the speed test file; raise to a few million ({@code -Dstore.records=5000000}) for a multi-GB file.
+     */
+    private static final int RECORDS = Integer.getInteger("store.records", 20_000);
+
+    private static final Path DIRECTORY = Path.of(System.getProperty("store.dir", "target/store"));
+
+    private static final int RANDOM_READS = 10_000;
+
+    private static final int MAX_THREADS = Integer.getInteger("parallel.maxThreads", Runtime.getRuntime().availableProcessors());
+
+    private static final PetCorpus.Config CONFIG = new PetCorpus.Config(1_000, PetMaker.SEED, 100, 4.0, 5, 0.1, 0.1);
+
+    private static final SmileMapper SMILE_MAPPER = Mappers.configure(new SmileMapper(), Optimizer.NONE);
+
+    private static List<Pet> corpus;
+
+    @BeforeAll
+    static void loadCorpus() throws IOException {
+        corpus = PetCorpus.load(CONFIG);
+    }
+
+    @Test
+    void testRoundTrip(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("pets.smile");
+        // small segments, so a few hundred kilobytes already span several mappings
+        final SmileRecordStore store = new SmileRecordStore(SMILE_MAPPER, 64 * 1024, 8);
+        final List<Pet> expected = new ArrayList<>();
+        // two appenders, so the second continues the index of the first
+        for (int half = 0; half < 2; half++) {
+            try (SmileRecordStore.Appender appender = store.appender(file)) {
+                for (final Pet pet : corpus.subList(half * corpus.size() / 2, (half + 1) * corpus.size() / 2)) {
+                    appender.append(pet);
+                    expected.add(pet);
+                }
+            }
+        }
+        assertRecords(store, file, expected);
+        // without the index the reader scans the file and must arrive at the same records
+        Files.delete(SmileRecordStore.indexFile(file));
+        assertRecords(store, file, expected);
+        try (SmileRecordStore.Appender appender = new SmileRecordStore(SMILE_MAPPER, 256, 8).appender(dir.resolve("small.smile"))) {
+            assertThrows(IOException.class, () -> appender.append(corpus.stream().filter(pet -> pet.getTags().size() > 50).findFirst().orElseThrow()));
+        }
+        // a crash in the middle of an append leaves a partial record and a stale index
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        expected.remove(expected.size() - 1);
+        assertRecords(store, file, expected);
+        try (SmileRecordStore.Appender appender = store.appender(file)) {
+            appender.append(corpus.get(0));
+            expected.add(corpus.get(0));
+        }
+        assertRecords(store, file, expected);
+        // a crash in the middle of the length prefix
+        Files.write(file, new byte[]{0, 0}, StandardOpenOption.APPEND);
+        assertRecords(store, file, expected);
+    }
+
+    @Test
+    void testEmpty(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("empty.smile");
+        final SmileRecordStore store = new SmileRecordStore(SMILE_MAPPER, 64 * 1024, 8);
+        try (SmileRecordStore.Appender appender = store.appender(file)) {
+            assertEquals(0, Files.size(file));
+        }
+        assertEmpty(store, file);
+        // a crash in the middle of the only record leaves nothing to read
+        try (SmileRecordStore.Appender appender = store.appender(file)) {
+            appender.append(corpus.get(0));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        assertEmpty(store, file);
+        try (SmileRecordStore.Appender appender = store.appender(file)) {
+            assertEquals(0, Files.size(file));
+        }
+        assertEmpty(store, file);
+    }
+
+    private static void assertEmpty(final SmileRecordStore store, final Path file) throws IOException {
+        try (SmileRecordStore.Reader<Pet> reader = store.reader(file, Pet.class)) {
+            assertEquals(0, reader.size());
+            final List<Pet> scanned = new ArrayList<>();
+            reader.forEach(scanned::add);
+            assertEquals(List.of(), scanned);
+            assertEquals(List.of(), reader.readAll(ForkJoinPool.commonPool()));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.read(0));
+        }
+    }
+
+    private static void assertRecords(final SmileRecordStore store, final Path file, final List<Pet> expected) throws IOException {
+        try (SmileRecordStore.Reader<Pet> reader = store.reader(file, Pet.class)) {
+            assertEquals(expected.size(), reader.size());
+            assertTrue(reader.segmentCount() > 1);
+            final List<Pet> scanned = new ArrayList<>();
+            reader.forEach(scanned::add);
+            assertEquals(expected, scanned);
+            assertEquals(expected, reader.readAll(ForkJoinPool.commonPool()));
+            final Random random = new Random(PetMaker.SEED);
+            for (int i = 0; i < 100; i++) {
+                final int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), reader.read(index));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.read(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.read(expected.size()));
+        }
+    }
+
+    /**
+     * Full scan and random access through the mapped reader, against a buffered stream and a {@link RandomAccessFile}
+     * that read each record into a heap {@code byte[]} first.
+     */
+    @Test
+    void testStoreSpeed() throws Exception {
+        Files.createDirectories(DIRECTORY);
+        final Path file = Files.createTempFile(DIRECTORY, "pets", ".smile");
+        try {
+            final SmileRecordStore store = new SmileRecordStore(SMILE_MAPPER);
+            try (SmileRecordStore.Appender appender = store.appender(file)) {
+                for (int i = 0; i < RECORDS; i++) {
+                    appender.append(corpus.get(i % corpus.size()));
+                }
+            }
+            final long fileBytes = Files.size(file);
+            try (SmileRecordStore.Reader<Pet> reader = store.reader(file, Pet.class)) {
+                final int[] indexes = new Random(PetMaker.SEED).ints(RANDOM_READS, 0, reader.size()).toArray();
+                final long[] offsets = streamOffsets(file);
+                final String nm = String.format("%,d/%,dMB", reader.size(), fileBytes / BYTES_IN_A_MEGABYTE);
+                System.out.printf("%n%nSmileRecordStore:%s segments=%d%n", nm, reader.segmentCount());
+                final Measure.Measurement mappedScan = measure(reader.size(), () -> {
+                    final int[] count = new int[1];
+                    reader.forEach(pet -> count[0]++);
+                    return count[0];
+                });
+                final Measure.Measurement streamScan = measure(reader.size(), () -> streamScan(file));
+                final Measure.Measurement mappedRandom = measure(indexes.length, () -> {
+                    for (final int index : indexes) {
+                        reader.read(index);
+                    }
+                    return null;
+                });
+                final Measure.Measurement fileRandom = measure(indexes.length, () -> randomRead(file, offsets, indexes));
+                final long bytesPerRecord = fileBytes / reader.size();
+                report(nm, "Scan", bytesPerRecord, mappedScan, streamScan);
+                report(nm, "Random", bytesPerRecord, mappedRandom, fileRandom);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(SmileRecordStore.indexFile(file));
+        }
+    }
+
+    /**
+     * Decode throughput of {@link SmileRecordStore.Reader#readAll} on 1..N fork-join threads, where N defaults to the
+     * number of cores and can be set with {@code -Dparallel.maxThreads}, against one {@link MappingIterator} reading
+     * the same pets from a plain Smile stream.
+     */
+    @Test
+    void testParallelScaling() throws Exception {
+        Files.createDirectories(DIRECTORY);
+        final Path file = Files.createTempFile(DIRECTORY, "pets", ".smile");
+        final Path stream = Files.createTempFile(DIRECTORY, "pets", ".stream.smile");
+        try {
+            final List<Pet> pets = new ArrayList<>(RECORDS);
+            for (int i = 0; i < RECORDS; i++) {
+                pets.add(corpus.get(i % corpus.size()));
+            }
+            PetCorpus.write(pets, stream);
+            final SmileRecordStore store = new SmileRecordStore(SMILE_MAPPER);
+            try (SmileRecordStore.Appender appender = store.appender(file)) {
+                for (final Pet pet : pets) {
+                    appender.append(pet);
+                }
+            }
+            try (SmileRecordStore.Reader<Pet> reader = store.reader(file, Pet.class)) {
+                final String nm = String.format("%,d/%,dMB", reader.size(), Files.size(file) / BYTES_IN_A_MEGABYTE);
+                System.out.printf("%n%nParallelDecode:%s blocks=%,d%n", nm, (reader.size() + SmileRecordStore.DEFAULT_BLOCK_SIZE - 1) / SmileRecordStore.DEFAULT_BLOCK_SIZE);
+                final long sequential = measure(reader.size(), () -> {
+                    try (InputStream in = Files.newInputStream(stream);
+                         MappingIterator<Pet> iterator = SMILE_MAPPER.readerFor(Pet.class).readValues(in)) {
+                        while (iterator.hasNextValue()) {
+                            iterator.nextValue();
+                        }
+                    }
+                    return null;
+                }).opsPerSecond();
+                Measure.report(nm, "Decode(records/s)", List.of("MappingIterator"), sequential);
+                long single = 0;
+                for (int threads = 1; threads <= MAX_THREADS; threads = nextThreads(threads)) {
+                    final ForkJoinPool pool = new ForkJoinPool(threads);
+                    try {
+                        final long parallel = measure(reader.size(), () -> reader.readAll(pool)).opsPerSecond();
+                        single = threads == 1 ? parallel : single;
+                        System.out.printf("%-20s %24s threads=%-3d %-,10d %7.2f%% efficiency=%7.2f%%%n", nm, "Decode(records/s)", threads,
+                                parallel, 100d * parallel / sequential, 100d * parallel / (single * threads));
+                    } finally {
+                        pool.shutdown();
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(SmileRecordStore.indexFile(file));
+            Files.deleteIfExists(stream);
+        }
+    }
+
+    private static int nextThreads(final int threads) {
+        return threads < MAX_THREADS && threads * 2 > MAX_THREADS ? MAX_THREADS : threads * 2;
+    }
+
+    private static int streamScan(final Path file) throws IOException {
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return count;
+                }
+                final byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                SMILE_MAPPER.readValue(bytes, Pet.class);
+                count++;
+            }
+        }
+    }
+
+    private static int randomRead(final Path file, final long[] offsets, final int[] indexes) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "r")) {
+            for (final int index : indexes) {
+                randomAccessFile.seek(offsets[index]);
+                final byte[] bytes = new byte[randomAccessFile.readInt()];
+                randomAccessFile.readFully(bytes);
+                SMILE_MAPPER.readValue(bytes, Pet.class);
+            }
+        }
+        return indexes.length;
+    }
+
+    private static long[] streamOffsets(final Path file) throws IOException {
+        final long[] offsets = new long[RECORDS];
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "r")) {
+            long offset = 0;
+            for (int i = 0; i < RECORDS; i++) {
+                offsets[i] = offset;
+                randomAccessFile.seek(offset);
+                offset += SmileRecordStore.HEADER_SIZE + randomAccessFile.readInt();
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * One warm-up pass and one recorded pass of {@code operation}, which handles {@code records} records per pass.
+     */
+    private static Measure.Measurement measure(final int records, final Measure.Operation operation) throws Exception {
+        return Measure.measure(1, 1, records, operation);
+    }
+
+    private static void report(final String nm, final String name, final long bytesPerRecord, final Measure.Measurement mapped,
+                               final Measure.Measurement heap) {
+        final List<String> names = List.of("mapped", "byte[]");
+        Measure.report(nm, name, names, mapped, heap);
+        Measure.report(nm, name + "(MB/s)", names, mapped.opsPerSecond() * bytesPerRecord / BYTES_IN_A_MEGABYTE,
+                heap.opsPerSecond() * bytesPerRecord / BYTES_IN_A_MEGABYTE);
+    }
+}
@@ -0,0 +1,113 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Session-oriented Smile codec for a long-lived connection. Every message is written as the next root value of one
+ * continuous Smile stream, so the shared-name and shared-value back reference tables survive between messages: once
+ * a property name or short string has been sent, later messages refer to it with a one or two byte reference.
+ * <p>
+ * Both ends may be primed with the same seed values, which are encoded into the tables and discarded, so even the
+ * first real message benefits. Encoders and decoders are stateful and must be used by one thread at a time, and a
+ * decoder must see every message of its encoder, in order.
+ */
+public final class SmileSessionCodec {
+
+    private final SmileMapper smileMapper;
+
+    private final Object[] seed;
+
+    public SmileSessionCodec(final SmileMapper smileMapper, final Object... seed) {
+        this.smileMapper = smileMapper;
+        this.seed = seed.clone();
+    }
+
+    public Encoder encoder() throws IOException {
+        final Encoder encoder = new Encoder(smileMapper);
+        for (final Object value : seed) {
+            encoder.encode(value);
+        }
+        return encoder;
+    }
+
+    public <T> Decoder<T> decoder(final Class<T> type) throws IOException {
+        final Decoder<T> decoder = new Decoder<>(smileMapper, type);
+        try (Encoder encoder = new Encoder(smileMapper)) {
+            for (final Object value : seed) {
+                decoder.decode(encoder.encode(value), Object.class);
+            }
+        }
+        return decoder;
+    }
+
+    public static final class Encoder implements Closeable {
+
+        private final SmileMapper smileMapper;
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        private final JsonGenerator generator;
+
+        private Encoder(final SmileMapper smileMapper) throws IOException {
+            this.smileMapper = smileMapper;
+            this.generator = smileMapper.getFactory().createGenerator(out);
+        }
+
+        public byte[] encode(final Object value) throws IOException {
+            smileMapper.writeValue(generator, value);
+            generator.flush();
+            final byte[] bytes = out.toByteArray();
+            out.reset();
+            return bytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    public static final class Decoder<T> implements Closeable {
+
+        private final SmileMapper smileMapper;
+
+        private final Class<T> type;
+
+        private final JsonParser parser;
+
+        private final ByteArrayFeeder feeder;
+
+        private Decoder(final SmileMapper smileMapper, final Class<T> type) throws IOException {
+            this.smileMapper = smileMapper;
+            this.type = type;
+            this.parser = smileMapper.getFactory().createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        public T decode(final byte[] bytes) throws IOException {
+            return decode(bytes, type);
+        }
+
+        private <V> V decode(final byte[] bytes, final Class<V> valueType) throws IOException {
+            feeder.feedInput(bytes, 0, bytes.length);
+            final JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.NOT_AVAILABLE) {
+                throw new IOException("Incomplete Smile session message of " + bytes.length + " bytes");
+            }
+            return smileMapper.readValue(parser, valueType);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.openapitools.model.Pet;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmileSessionCodecTest {
+
+    private static final long NANOS_IN_A_SECOND = 1_000_000_000L;
+
+    private static final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+
+    private static final Pet[] PET = petMaker.createPets();
+
+    private static final Pet SEED = new PetMaker(new Random(PetMaker.SEED + 1)).createPet(0);
+
+    private static final int WARM_ITERATIONS = 1_000;
+
+    private static final int RECORD_ITERATIONS = 10_000;
+
+    private final SmileMapper smileMapper = Mappers.configure(SmileProfile.SHARED_NAMES_AND_STRINGS.mapper(), Optimizer.NONE);
+
+    @Test
+    void testRoundTrip() throws Exception {
+        final SmileSessionCodec codec = new SmileSessionCodec(smileMapper, SEED);
+        try (SmileSessionCodec.Encoder encoder = codec.encoder();
+             SmileSessionCodec.Decoder<Pet> decoder = codec.decoder(Pet.class)) {
+            for (int i = 0; i < 3 * PET.length; i++) {
+                final Pet pet = PET[i % PET.length];
+                assertEquals(pet, decoder.decode(encoder.encode(pet)));
+            }
+        }
+    }
+
+    @Test
+    void testSessionSize() throws Exception {
+        for (int i = 0; i < PET.length; i++) {
+            final Pet pet = PET[i];
+            final String nm = i + "/" + pet.getTags().size();
+            final int statelessBytes = smileMapper.writeValueAsBytes(pet).length;
+            final int seededBytes = sessionBytes(new SmileSessionCodec(smileMapper, SEED), pet, 1);
+            final int sessionBytes = sessionBytes(new SmileSessionCodec(smileMapper), pet, 2);
+            System.out.printf("%-10s Message(bytes) stateless=%-,10d seeded=%-,10d %6.2f%% session=%-,10d %6.2f%%%n", nm,
+                    statelessBytes, seededBytes, 100d * seededBytes / statelessBytes, sessionBytes, 100d * sessionBytes / statelessBytes);
+            assertTrue(seededBytes < statelessBytes);
+            assertTrue(sessionBytes < statelessBytes);
+        }
+    }
+
+    @Test
+    void testSessionSpeed() throws Exception {
+        final SmileSessionCodec codec = new SmileSessionCodec(smileMapper, SEED);
+        for (int i = 0; i < PET.length; i++) {
+            final Pet pet = PET[i];
+            final String nm = i + "/" + pet.getTags().size();
+            speed(nm, codec, pet, WARM_ITERATIONS, false);
+            speed(nm, codec, pet, RECORD_ITERATIONS, true);
+        }
+    }
+
+    private int sessionBytes(final SmileSessionCodec codec, final Pet pet, final int messages) throws Exception {
+        try (SmileSessionCodec.Encoder encoder = codec.encoder()) {
+            byte[] bytes = new byte[0];
+            for (int i = 0; i < messages; i++) {
+                bytes = encoder.encode(pet);
+            }
+            return bytes.length;
+        }
+    }
+
+    private void speed(final String nm, final SmileSessionCodec codec, final Pet pet, final int iterations, final boolean record) throws Exception {
+        long statelessNS = 0;
+        long sessionNS = 0;
+        try (SmileSessionCodec.Encoder encoder = codec.encoder();
+             SmileSessionCodec.Decoder<Pet> decoder = codec.decoder(Pet.class)) {
+            for (int i = 0; i < iterations; i++) {
+                long startNS = System.nanoTime();
+                smileMapper.readValue(smileMapper.writeValueAsBytes(pet), Pet.class);
+                statelessNS += System.nanoTime() - startNS;
+                startNS = System.nanoTime();
+                decoder.decode(encoder.encode(pet));
+                sessionNS += System.nanoTime() - startNS;
+            }
+        }
+        if (record) {
+            final long statelessOps = NANOS_IN_A_SECOND * iterations / statelessNS;
+            final long sessionOps = NANOS_IN_A_SECOND * iterations / sessionNS;
+            System.out.printf("%-10s RoundTrip(ops/s) stateless=%-,10d session=%-,10d %6.2f%%%n", nm,
+                    statelessOps, sessionOps, 100d * sessionOps / statelessOps);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Pet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Batches of N pets written through one {@link SequenceWriter} and read back through one {@link MappingIterator},
+ * against the same N pets sent as N separate messages. In one Smile stream the shared-name table carries over from
+ * record to record, so field names after the first record shrink to one-byte back references. Each percentage is the
+ * stream relative to separate messages.
+ */
+class StreamPerformanceTest {
+
+    /**
+     * Small pets, as in a typical batch: at most 100 tags, most well under 10.
+     */
+    private static final PetCorpus.Config CONFIG = new PetCorpus.Config(1_000, PetMaker.SEED, 100, 4.0, 5, 0.1, 0.1);
+
+    private static final int[] BATCH_SIZES = {1, 10, 100, 1_000, 10_000};
+
+    /**
+     * Records written and read per measurement, whatever the batch size.
+     */
+    private static final int RECORDS_PER_MEASUREMENT = 100_000;
+
+    private static List<Pet> corpus;
+
+    @BeforeAll
+    static void loadCorpus() throws IOException {
+        corpus = PetCorpus.load(CONFIG);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testStreamRoundTrip(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final List<Pet> batch = batch(BATCH_SIZES[BATCH_SIZES.length - 1]);
+        assertEquals(batch, read(objectMapper.readerFor(Pet.class), write(objectMapper.writerFor(Pet.class), batch)));
+        assertEquals(List.of(), read(objectMapper.readerFor(Pet.class), write(objectMapper.writerFor(Pet.class), List.of())));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testStreamSpeed(final Format format) throws Exception {
+        final ObjectMapper objectMapper = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectWriter writer = objectMapper.writerFor(Pet.class);
+        final ObjectReader reader = objectMapper.readerFor(Pet.class);
+        System.out.printf("%n%nStream:%s%n", format.label());
+        final List<String> names = List.of("messages", "stream");
+        for (final int size : BATCH_SIZES) {
+            final List<Pet> batch = batch(size);
+            final byte[] stream = write(writer, batch);
+            final List<byte[]> messages = new ArrayList<>(size);
+            long messageBytes = 0;
+            for (final Pet pet : batch) {
+                final byte[] message = writer.writeValueAsBytes(pet);
+                messages.add(message);
+                messageBytes += message.length;
+            }
+            final Measure.Measurement messageWrite = measure(size, () -> {
+                for (final Pet pet : batch) {
+                    writer.writeValueAsBytes(pet);
+                }
+                return null;
+            });
+            final Measure.Measurement streamWrite = measure(size, () -> write(writer, batch));
+            final Measure.Measurement messageRead = measure(size, () -> {
+                for (final byte[] message : messages) {
+                    reader.readValue(message);
+                }
+                return null;
+            });
+            final Measure.Measurement streamRead = measure(size, () -> {
+                try (MappingIterator<Pet> iterator = reader.readValues(stream)) {
+                    while (iterator.hasNextValue()) {
+                        iterator.nextValue();
+                    }
+                }
+                return null;
+            });
+            final String nm = String.format("%s:%,d", format.label(), size);
+            Measure.report(nm, "Bytes/record", names, messageBytes / size, stream.length / size);
+            Measure.report(nm, "Serialize", names, messageWrite, streamWrite);
+            Measure.report(nm, "DeSerialize", names, messageRead, streamRead);
+        }
+    }
+
+    /**
+     * First {@code size} pets of the corpus, repeated if the corpus is smaller.
+     */
+    private static List<Pet> batch(final int size) {
+        final List<Pet> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(corpus.get(i % corpus.size()));
+        }
+        return batch;
+    }
+
+    private static byte[] write(final ObjectWriter writer, final List<Pet> batch) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SequenceWriter sequenceWriter = writer.writeValues(out)) {
+            sequenceWriter.writeAll(batch);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<Pet> read(final ObjectReader reader, final byte[] stream) throws IOException {
+        try (MappingIterator<Pet> iterator = reader.readValues(stream)) {
+            return iterator.readAll(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Runs {@code operation} over a batch of {@code size} records until {@link #RECORDS_PER_MEASUREMENT} records are
+     * done, after a tenth of that as warm-up.
+     */
+    private static Measure.Measurement measure(final int size, final Measure.Operation operation) throws Exception {
+        final int iterations = Math.max(1, RECORDS_PER_MEASUREMENT / size);
+        return Measure.measure(Math.max(1, iterations / 10), iterations, size, operation);
+    }
+}
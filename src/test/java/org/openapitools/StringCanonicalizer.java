@@ -0,0 +1,183 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded cache that hands out one shared {@code String} instance per distinct value, so that a decoded batch holds
+ * each repeated tag or category name once instead of once per occurrence.
+ * <p>
+ * The cache is direct-mapped: a value hashes to exactly one slot and a new value evicts whatever the slot held. Lookups
+ * and stores are single reads and writes of an {@link AtomicReferenceArray}, so threads never block or retry; a race
+ * only costs a miss. With JSON the lookup runs on the parser's character buffer and a hit builds no {@code String} at
+ * all; with Smile a hit only saves what is retained, see {@link TokenText}.
+ * <p>
+ * Instances are thread-safe and can be shared by several mappers.
+ */
+public final class StringCanonicalizer {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Longer values are rarely repeated, and comparing them costs more than they save.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final AtomicReferenceArray<String> slots;
+
+    private final int mask;
+
+    private final int maxLength;
+
+    public StringCanonicalizer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param capacity  number of slots, rounded up to a power of two
+     * @param maxLength longest value that is cached; longer ones are passed through
+     */
+    public StringCanonicalizer(final int capacity, final int maxLength) {
+        if (capacity < 1 || capacity > 1 << 30 || maxLength < 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " or max length " + maxLength);
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Shared instance equal to {@code value}.
+     */
+    public String canonicalize(final String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        final int slot = slot(value.hashCode());
+        final String cached = slots.getAcquire(slot);
+        if (value.equals(cached)) {
+            return cached;
+        }
+        slots.setRelease(slot, value);
+        return value;
+    }
+
+    /**
+     * Shared instance equal to {@code chars[offset, offset + length)}; a new {@code String} is built only on a miss.
+     */
+    public String canonicalize(final char[] chars, final int offset, final int length) {
+        if (length > maxLength) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars[offset + i];
+        }
+        final int slot = slot(hash);
+        final String cached = slots.getAcquire(slot);
+        if (cached != null && equals(cached, chars, offset, length)) {
+            return cached;
+        }
+        final String value = new String(chars, offset, length);
+        slots.setRelease(slot, value);
+        return value;
+    }
+
+    /**
+     * Module that canonicalizes the listed {@code String} properties of each bean type, by JSON name. All other strings
+     * are decoded as usual.
+     */
+    public Module module(final Map<Class<?>, Set<String>> properties) {
+        final CanonicalStringDeserializer deserializer = new CanonicalStringDeserializer(this);
+        final SimpleModule module = new SimpleModule("StringCanonicalizer");
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(final DeserializationConfig config, final BeanDescription beanDesc,
+                                                         final BeanDeserializerBuilder builder) {
+                final Set<String> names = properties.get(beanDesc.getBeanClass());
+                if (names == null) {
+                    return builder;
+                }
+                final List<SettableBeanProperty> canonical = new ArrayList<>();
+                builder.getProperties().forEachRemaining(property -> {
+                    if (names.contains(property.getName()) && property.getType().hasRawClass(String.class)) {
+                        canonical.add(property.withValueDeserializer(deserializer));
+                    }
+                });
+                for (final SettableBeanProperty property : canonical) {
+                    builder.addOrReplaceProperty(property, true);
+                }
+                return builder;
+            }
+        });
+        return module;
+    }
+
+    private int slot(final int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean equals(final String value, final char[] chars, final int offset, final int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class CanonicalStringDeserializer extends StdScalarDeserializer<String> implements TokenText.Visitor<Void, String> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient StringCanonicalizer canonicalizer;
+
+        CanonicalStringDeserializer(final StringCanonicalizer canonicalizer) {
+            super(String.class);
+            this.canonicalizer = canonicalizer;
+        }
+
+        @Override
+        public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                return StringDeserializer.instance.deserialize(p, ctxt);
+            }
+            return TokenText.visit(p, this, null);
+        }
+
+        @Override
+        public String chars(final char[] chars, final int offset, final int length, final Void context) {
+            return canonicalizer.canonicalize(chars, offset, length);
+        }
+
+        @Override
+        public String string(final String text, final Void context) {
+            return canonicalizer.canonicalize(text);
+        }
+    }
+}
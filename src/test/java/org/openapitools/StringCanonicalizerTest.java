@@ -0,0 +1,199 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.openapitools.model.Category;
+import org.openapitools.model.Pet;
+import org.openapitools.model.Tag;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringCanonicalizerTest {
+
+    private static final PetCorpus.Config CONFIG = new PetCorpus.Config(1_000, PetMaker.SEED, 100, 4.0, 5, 0.1, 0.1);
+
+    private static final Map<Class<?>, Set<String>> NAMES = Map.of(Tag.class, Set.of("name"), Category.class, Set.of("name"));
+
+    private static final int[] CAPACITIES = {1_024, StringCanonicalizer.DEFAULT_CAPACITY, 16_384, 65_536};
+
+    private static final int WARM_ITERATIONS = 20;
+
+    private static final int RECORD_ITERATIONS = 20;
+
+    private static List<Pet> corpus;
+
+    @BeforeAll
+    static void loadCorpus() throws IOException {
+        corpus = PetCorpus.load(CONFIG);
+    }
+
+    @Test
+    void testCanonicalize() {
+        final StringCanonicalizer canonicalizer = new StringCanonicalizer(100, 8);
+        assertEquals(128, canonicalizer.capacity());
+        final String first = canonicalizer.canonicalize(new String("Wyvern"));
+        assertSame(first, canonicalizer.canonicalize(new String("Wyvern")));
+        assertSame(first, canonicalizer.canonicalize("xWyvernx".toCharArray(), 1, 6));
+        final String longer = new String("Griffin and Wyvern");
+        assertSame(longer, canonicalizer.canonicalize(longer));
+        assertNotSame(longer, canonicalizer.canonicalize(new String(longer)));
+
+        final StringCanonicalizer single = new StringCanonicalizer(1, 8);
+        final String a = single.canonicalize(new String("a"));
+        single.canonicalize("b");
+        assertNotSame(a, single.canonicalize(new String("a")));
+        assertThrows(IllegalArgumentException.class, () -> new StringCanonicalizer(0, 8));
+    }
+
+    @Test
+    void testConcurrent() throws Exception {
+        final StringCanonicalizer canonicalizer = new StringCanonicalizer(64, 16);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        final String value = "tag-" + (i % 100);
+                        assertEquals(value, canonicalizer.canonicalize(value));
+                        assertEquals(value, canonicalizer.canonicalize(value.toCharArray(), 0, value.length()));
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testDecode(final Format format) throws Exception {
+        final ObjectMapper plain = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final ObjectMapper canonical = Mappers.configure(format.mapper(), Optimizer.NONE)
+                .registerModule(new StringCanonicalizer().module(NAMES));
+        final List<byte[]> messages = messages(plain);
+        final List<Pet> expected = decode(plain.readerFor(Pet.class), messages);
+        final List<Pet> actual = decode(canonical.readerFor(Pet.class), messages);
+        assertEquals(expected, actual);
+        // distinct values colliding in a slot keep evicting each other, so only a bound on the instances holds
+        final Names names = names(actual);
+        assertEquals(names(expected).distinct(), names.distinct());
+        assertTrue(names.instances().size() < names(expected).instances().size() / 2);
+        // pet names are not canonicalized
+        assertNotSame(actual.get(0).getName(), canonical.readValue(messages.get(0), Pet.class).getName());
+    }
+
+    /**
+     * Decodes the whole corpus, one message per pet, with and without canonical tag and category names, for a range of
+     * cache capacities, and reports throughput, allocation and the heap the decoded batch keeps for those names.
+     * Retained heap counts each distinct {@code String} instance once, as a 24-byte {@code String} plus a Latin-1 array
+     * with a 16-byte header, padded to 8 bytes.
+     */
+    @ParameterizedTest
+    @EnumSource(value = Format.class, names = {"JSON", "SMILE"})
+    void testCanonicalSpeed(final Format format) throws Exception {
+        final ObjectMapper plain = Mappers.configure(format.mapper(), Optimizer.NONE);
+        final List<byte[]> messages = messages(plain);
+        final ObjectReader plainReader = plain.readerFor(Pet.class);
+        final Measure.Measurement plainSpeed = measure(messages.size(), () -> decode(plainReader, messages));
+        final Names plainNames = names(decode(plainReader, messages));
+        final String nm = format.label() + ":" + messages.size();
+        System.out.printf("%n%nCanonical:%s names=%,d distinct=%,d%n", nm, plainNames.count(), plainNames.distinct());
+        System.out.printf("%-20s %8s %-26s %-26s %-26s%n", nm, "Capacity", "DeSerialize(records/s)", "DeSerialize(alloc/rec)",
+                "Retained(names bytes)");
+        System.out.printf("%-20s %8s %-,26d %-,26d %-,26d%n", nm, "-", plainSpeed.opsPerSecond(),
+                plainSpeed.allocatedBytesPerOp(), plainNames.retainedBytes());
+        for (final int capacity : CAPACITIES) {
+            final ObjectMapper canonical = Mappers.configure(format.mapper(), Optimizer.NONE)
+                    .registerModule(new StringCanonicalizer(capacity, StringCanonicalizer.DEFAULT_MAX_LENGTH).module(NAMES));
+            final ObjectReader canonicalReader = canonical.readerFor(Pet.class);
+            final Measure.Measurement canonicalSpeed = measure(messages.size(), () -> decode(canonicalReader, messages));
+            final Names canonicalNames = names(decode(canonicalReader, messages));
+            System.out.printf("%-20s %,8d %-,14d %9.2f%%  %-,14d %9.2f%%  %-,14d %9.2f%%%n", nm, capacity,
+                    canonicalSpeed.opsPerSecond(), 100d * canonicalSpeed.opsPerSecond() / plainSpeed.opsPerSecond(),
+                    canonicalSpeed.allocatedBytesPerOp(),
+                    100d * canonicalSpeed.allocatedBytesPerOp() / plainSpeed.allocatedBytesPerOp(),
+                    canonicalNames.retainedBytes(), 100d * canonicalNames.retainedBytes() / plainNames.retainedBytes());
+        }
+    }
+
+    /**
+     * Tag and category names of a batch: how many there are, how many distinct values, and the distinct instances.
+     */
+    record Names(long count, long distinct, Set<String> instances) {
+
+        long retainedBytes() {
+            long bytes = 0;
+            for (final String instance : instances) {
+                bytes += 24 + ((16 + instance.length() + 7) & ~7);
+            }
+            return bytes;
+        }
+    }
+
+    private static Names names(final List<Pet> pets) {
+        final Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<String> values = new HashSet<>();
+        long count = 0;
+        for (final Pet pet : pets) {
+            final List<String> names = new ArrayList<>();
+            if (pet.getCategory() != null) {
+                names.add(pet.getCategory().getName());
+            }
+            if (pet.getTags() != null) {
+                pet.getTags().forEach(tag -> names.add(tag.getName()));
+            }
+            for (final String name : names) {
+                if (name != null) {
+                    count++;
+                    instances.add(name);
+                    values.add(name);
+                }
+            }
+        }
+        return new Names(count, values.size(), instances);
+    }
+
+    private static List<byte[]> messages(final ObjectMapper objectMapper) throws IOException {
+        final List<byte[]> messages = new ArrayList<>(corpus.size());
+        for (final Pet pet : corpus) {
+            messages.add(objectMapper.writeValueAsBytes(pet));
+        }
+        return messages;
+    }
+
+    private static List<Pet> decode(final ObjectReader reader, final List<byte[]> messages) throws IOException {
+        final List<Pet> pets = new ArrayList<>(messages.size());
+        for (final byte[] message : messages) {
+            pets.add(reader.readValue(message));
+        }
+        return pets;
+    }
+
+    private static Measure.Measurement measure(final int records, final Measure.Operation operation) throws Exception {
+        return Measure.measure(WARM_ITERATIONS, RECORD_ITERATIONS, records, operation);
+    }
+}
@@ -0,0 +1,37 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Reads the text of the current {@code VALUE_STRING} token in whichever form the parser already holds it. The JSON
+ * parser keeps the characters in its buffer, so a deserializer that only compares or looks them up builds no
+ * {@code String} at all. The Smile parser has already built the {@code String}, and asking it for characters would
+ * copy them out again, so there the {@code String} is handed over as is.
+ */
+final class TokenText {
+
+    private TokenText() {
+    }
+
+    /**
+     * @param <C> state the caller passes through, so the visitor itself can be a shared instance
+     * @param <R> result of the visit
+     */
+    interface Visitor<C, R> {
+
+        R chars(char[] chars, int offset, int length, C context) throws IOException;
+
+        R string(String text, C context) throws IOException;
+    }
+
+    static <C, R> R visit(final JsonParser p, final Visitor<C, R> visitor, final C context) throws IOException {
+        // finishes the token first, so that hasTextCharacters() describes this value
+        final int length = p.getTextLength();
+        if (p.hasTextCharacters()) {
+            return visitor.chars(p.getTextCharacters(), p.getTextOffset(), length, context);
+        }
+        return visitor.string(p.getText(), context);
+    }
+}
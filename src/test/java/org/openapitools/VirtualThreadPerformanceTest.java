@@ -0,0 +1,75 @@
+package org.openapitools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+import org.openapitools.model.Pet;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Thousands of concurrent virtual-thread tasks sharing one mapper, comparing Jackson's {@code ThreadLocal} buffer
+ * recycler against the {@link BufferRecyclerPool} alternatives wired in through {@link PooledJsonFactory} and
+ * {@link PooledSmileFactory}.
+ */
+class VirtualThreadPerformanceTest {
+
+    private static final long NANOS_IN_A_SECOND = 1_000_000_000L;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final PetMaker petMaker = new PetMaker(new Random(PetMaker.SEED));
+
+    private static final Pet[] PET = petMaker.createPets();
+
+    /** Concurrent tasks per run for each PET; each task does one serialize and one deserialize. */
+    private static final int[] TASKS = { 20_000, 5_000, 1_000 };
+
+    record Run(long tasksPerSecond, long allocatedBytesPerTask) {
+    }
+
+    @Test
+    void testVirtualThreads() throws Exception {
+        final Map<String, BufferRecyclerPool> pools = new LinkedHashMap<>();
+        pools.put("ThreadLocal", BufferRecyclerPool.threadLocal());
+        pools.put("Striped", BufferRecyclerPool.striped());
+        pools.put("Unpooled", BufferRecyclerPool.unpooled());
+        for (int i = 0; i < PET.length; i++) {
+            final Pet pet = PET[i];
+            final String nm = i + "/" + pet.getTags().size();
+            System.out.printf("%n%nVirtualThreads:%s tasks=%,d%n", nm, TASKS[i]);
+            for (final Map.Entry<String, BufferRecyclerPool> entry : pools.entrySet()) {
+                final ObjectMapper objectMapper = Mappers.configure(new ObjectMapper(new PooledJsonFactory(entry.getValue())), Optimizer.NONE);
+                final SmileMapper smileMapper = Mappers.configure(new SmileMapper(new PooledSmileFactory(entry.getValue())), Optimizer.NONE);
+                // the first run is a warm-up for the JIT and for the pool itself
+                run(objectMapper, pet, TASKS[i]);
+                run(smileMapper, pet, TASKS[i]);
+                report(nm, entry.getKey(), run(objectMapper, pet, TASKS[i]), run(smileMapper, pet, TASKS[i]));
+            }
+        }
+    }
+
+    Run run(final ObjectMapper objectMapper, final Pet pet, final int tasks) throws Exception {
+        final long startAllocatedBytes = THREAD_MX_BEAN.getTotalThreadAllocatedBytes();
+        final long startNS = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < tasks; t++) {
+                executor.submit(() -> objectMapper.readValue(objectMapper.writeValueAsBytes(pet), Pet.class));
+            }
+        }
+        final long durationNS = System.nanoTime() - startNS;
+        final long allocatedBytes = THREAD_MX_BEAN.getTotalThreadAllocatedBytes() - startAllocatedBytes;
+        return new Run(NANOS_IN_A_SECOND * tasks / durationNS, allocatedBytes / tasks);
+    }
+
+    private void report(final String nm, final String pool, final Run objectRun, final Run smileRun) {
+        System.out.printf("%-8s %-12s RoundTrip(tasks/s) ObjectMapper=%-,10d SmileMapper=%-,10d Alloc(bytes/task) ObjectMapper=%-,10d SmileMapper=%-,10d%n",
+                nm, pool, objectRun.tasksPerSecond(), smileRun.tasksPerSecond(), objectRun.allocatedBytesPerTask(), smileRun.allocatedBytesPerTask());
+    }
+}
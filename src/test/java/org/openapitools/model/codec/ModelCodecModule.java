@@ -0,0 +1,71 @@
+// Generated by org.openapitools.ModelCodecGenerator. Do not edit.
+package org.openapitools.model.codec;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import org.openapitools.model.Category;
+import org.openapitools.model.Pet;
+import org.openapitools.model.Tag;
+
+/**
+ * Registers the generated serializers and deserializers. Each mapper lookup gets fresh instances, because they
+ * cache the delegates resolved for that mapper.
+ */
+public final class ModelCodecModule extends Module {
+
+    @Override
+    public String getModuleName() {
+        return "ModelCodecModule";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(final SetupContext context) {
+        // XML wraps lists and maps attributes in its own bean (de)serializers, so XML mappers keep the reflective path
+        if ("XML".equals(context.getOwner().getFactory().getFormatName())) {
+            return;
+        }
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(final SerializationConfig config, final JavaType type, final BeanDescription beanDesc) {
+                if (type.getRawClass() == Category.class) {
+                    return new CategorySerializer();
+                }
+                if (type.getRawClass() == Pet.class) {
+                    return new PetSerializer();
+                }
+                if (type.getRawClass() == Tag.class) {
+                    return new TagSerializer();
+                }
+                return null;
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(final JavaType type, final DeserializationConfig config, final BeanDescription beanDesc) {
+                if (type.getRawClass() == Category.class) {
+                    return new CategoryDeserializer();
+                }
+                if (type.getRawClass() == Pet.class) {
+                    return new PetDeserializer();
+                }
+                if (type.getRawClass() == Tag.class) {
+                    return new TagDeserializer();
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,221 @@
+// Generated by org.openapitools.ModelCodecGenerator. Do not edit.
+package org.openapitools.model.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Category;
+import org.openapitools.model.Pet;
+import org.openapitools.model.Tag;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PetDeserializer extends StdDeserializer<Pet> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient JsonDeserializer<Object> categoryDeserializer;
+
+    private transient JsonDeserializer<Object> tagsItemDeserializer;
+
+    private transient JsonDeserializer<Object> createdOnDeserializer;
+
+    private transient JsonDeserializer<Object> lastModifiedOnContentDeserializer;
+
+    private transient JavaType photoUrlsType;
+
+    private transient JavaType tagsType;
+
+    public PetDeserializer() {
+        super(Pet.class);
+    }
+
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+        final TypeFactory typeFactory = ctxt.getTypeFactory();
+        categoryDeserializer = ctxt.findContextualValueDeserializer(typeFactory.constructType(Category.class), null);
+        tagsItemDeserializer = ctxt.findContextualValueDeserializer(typeFactory.constructType(Tag.class), null);
+        createdOnDeserializer = ctxt.findContextualValueDeserializer(typeFactory.constructType(OffsetDateTime.class), null);
+        lastModifiedOnContentDeserializer = ctxt.findContextualValueDeserializer(typeFactory.constructType(LocalDate.class), null);
+        photoUrlsType = typeFactory.constructCollectionType(List.class, typeFactory.constructType(String.class));
+        tagsType = typeFactory.constructCollectionType(List.class, typeFactory.constructType(Tag.class));
+    }
+
+    @Override
+    public Pet deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            return (Pet) ctxt.handleUnexpectedToken(Pet.class, p);
+        }
+        final Pet bean = new Pet();
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            final String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "id":
+                    bean.setId(readId(p, ctxt));
+                    break;
+                case "category":
+                    bean.setCategory(readCategory(p, ctxt));
+                    break;
+                case "name":
+                    bean.setName(readName(p, ctxt));
+                    break;
+                case "photoUrls":
+                    bean.setPhotoUrls(readPhotoUrls(p, ctxt));
+                    break;
+                case "tags":
+                    bean.setTags(readTags(p, ctxt));
+                    break;
+                case "createdOn":
+                    bean.setCreatedOn(readCreatedOn(p, ctxt));
+                    break;
+                case "lastModifiedOn":
+                    bean.setLastModifiedOn(readLastModifiedOn(p, ctxt));
+                    break;
+                case "status":
+                    bean.setStatus(readStatus(p, ctxt));
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, bean, name);
+                    break;
+            }
+        }
+        return bean;
+    }
+
+    private Long readId(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, Long.class);
+    }
+
+    private Category readCategory(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return (Category) categoryDeserializer.getNullValue(ctxt);
+        }
+        return (Category) categoryDeserializer.deserialize(p, ctxt);
+    }
+
+    private String readName(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private String readPhotoUrlsItem(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    private List<String> readPhotoUrls(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t != JsonToken.START_ARRAY) {
+            return ctxt.readValue(p, photoUrlsType);
+        }
+        final List<String> list = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readPhotoUrlsItem(p, ctxt));
+        }
+        return list;
+    }
+
+    private Tag readTagsItem(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return (Tag) tagsItemDeserializer.getNullValue(ctxt);
+        }
+        return (Tag) tagsItemDeserializer.deserialize(p, ctxt);
+    }
+
+    private List<Tag> readTags(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (t != JsonToken.START_ARRAY) {
+            return ctxt.readValue(p, tagsType);
+        }
+        final List<Tag> list = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            list.add(readTagsItem(p, ctxt));
+        }
+        return list;
+    }
+
+    private OffsetDateTime readCreatedOn(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return (OffsetDateTime) createdOnDeserializer.getNullValue(ctxt);
+        }
+        return (OffsetDateTime) createdOnDeserializer.deserialize(p, ctxt);
+    }
+
+    private LocalDate readLastModifiedOnContent(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return (LocalDate) lastModifiedOnContentDeserializer.getNullValue(ctxt);
+        }
+        return (LocalDate) lastModifiedOnContentDeserializer.deserialize(p, ctxt);
+    }
+
+    private JsonNullable<LocalDate> readLastModifiedOn(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        return JsonNullable.of(readLastModifiedOnContent(p, ctxt));
+    }
+
+    private Pet.StatusEnum readStatusContent(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            final String text = p.getText();
+            switch (text) {
+                case "available":
+                    return Pet.StatusEnum.AVAILABLE;
+                case "pending":
+                    return Pet.StatusEnum.PENDING;
+                case "sold":
+                    return Pet.StatusEnum.SOLD;
+                case "unknown_default_open_api":
+                    return Pet.StatusEnum.UNKNOWN_DEFAULT_OPEN_API;
+                default:
+                    return Pet.StatusEnum.fromValue(text);
+            }
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, Pet.StatusEnum.class);
+    }
+
+    private JsonNullable<Pet.StatusEnum> readStatus(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        return JsonNullable.of(readStatusContent(p, ctxt));
+    }
+}
@@ -0,0 +1,145 @@
+// Generated by org.openapitools.ModelCodecGenerator. Do not edit.
+package org.openapitools.model.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.model.Category;
+import org.openapitools.model.Pet;
+import org.openapitools.model.Tag;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public final class PetSerializer extends StdSerializer<Pet> implements ResolvableSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+
+    private static final SerializableString CATEGORY = new SerializedString("category");
+
+    private static final SerializableString NAME = new SerializedString("name");
+
+    private static final SerializableString PHOTO_URLS = new SerializedString("photoUrls");
+
+    private static final SerializableString TAGS = new SerializedString("tags");
+
+    private static final SerializableString CREATED_ON = new SerializedString("createdOn");
+
+    private static final SerializableString LAST_MODIFIED_ON = new SerializedString("lastModifiedOn");
+
+    private static final SerializableString STATUS = new SerializedString("status");
+
+    private transient JsonSerializer<Object> categorySerializer;
+
+    private transient JsonSerializer<Object> tagsItemSerializer;
+
+    private transient JsonSerializer<Object> createdOnSerializer;
+
+    private transient JsonSerializer<Object> lastModifiedOnContentSerializer;
+
+    public PetSerializer() {
+        super(Pet.class);
+    }
+
+    @Override
+    public void resolve(final SerializerProvider provider) throws JsonMappingException {
+        categorySerializer = provider.findPrimaryPropertySerializer(Category.class, null);
+        tagsItemSerializer = provider.findPrimaryPropertySerializer(Tag.class, null);
+        createdOnSerializer = provider.findPrimaryPropertySerializer(OffsetDateTime.class, null);
+        lastModifiedOnContentSerializer = provider.findPrimaryPropertySerializer(LocalDate.class, null);
+    }
+
+    @Override
+    public void serialize(final Pet value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        final Long id = value.getId();
+        gen.writeFieldName(ID);
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(id.longValue());
+        }
+        final Category category = value.getCategory();
+        gen.writeFieldName(CATEGORY);
+        if (category == null) {
+            provider.defaultSerializeNull(gen);
+        } else {
+            categorySerializer.serialize(category, gen, provider);
+        }
+        final String name = value.getName();
+        gen.writeFieldName(NAME);
+        if (name == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(name);
+        }
+        final List<String> photoUrls = value.getPhotoUrls();
+        gen.writeFieldName(PHOTO_URLS);
+        if (photoUrls == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(photoUrls, photoUrls.size());
+            for (final String photoUrlsItem : photoUrls) {
+                if (photoUrlsItem == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(photoUrlsItem);
+                }
+            }
+            gen.writeEndArray();
+        }
+        final List<Tag> tags = value.getTags();
+        gen.writeFieldName(TAGS);
+        if (tags == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(tags, tags.size());
+            for (final Tag tagsItem : tags) {
+                if (tagsItem == null) {
+                    provider.defaultSerializeNull(gen);
+                } else {
+                    tagsItemSerializer.serialize(tagsItem, gen, provider);
+                }
+            }
+            gen.writeEndArray();
+        }
+        final OffsetDateTime createdOn = value.getCreatedOn();
+        gen.writeFieldName(CREATED_ON);
+        if (createdOn == null) {
+            provider.defaultSerializeNull(gen);
+        } else {
+            createdOnSerializer.serialize(createdOn, gen, provider);
+        }
+        final JsonNullable<LocalDate> lastModifiedOn = value.getLastModifiedOn();
+        if (lastModifiedOn != null && lastModifiedOn.isPresent()) {
+            gen.writeFieldName(LAST_MODIFIED_ON);
+            final LocalDate lastModifiedOnContent = lastModifiedOn.get();
+            if (lastModifiedOnContent == null) {
+                provider.defaultSerializeNull(gen);
+            } else {
+                lastModifiedOnContentSerializer.serialize(lastModifiedOnContent, gen, provider);
+            }
+        }
+        final JsonNullable<Pet.StatusEnum> status = value.getStatus();
+        if (status != null && status.isPresent()) {
+            gen.writeFieldName(STATUS);
+            final Pet.StatusEnum statusContent = status.get();
+            if (statusContent == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(statusContent.getValue());
+            }
+        }
+        gen.writeEndObject();
+    }
+}
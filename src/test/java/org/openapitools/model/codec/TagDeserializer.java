@@ -0,0 +1,74 @@
+// Generated by org.openapitools.ModelCodecGenerator. Do not edit.
+package org.openapitools.model.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.openapitools.model.Tag;
+
+import java.io.IOException;
+
+public final class TagDeserializer extends StdDeserializer<Tag> implements ResolvableDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    public TagDeserializer() {
+        super(Tag.class);
+    }
+
+    @Override
+    public void resolve(final DeserializationContext ctxt) throws JsonMappingException {
+    }
+
+    @Override
+    public Tag deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            return (Tag) ctxt.handleUnexpectedToken(Tag.class, p);
+        }
+        final Tag bean = new Tag();
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            final String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "id":
+                    bean.setId(readId(p, ctxt));
+                    break;
+                case "name":
+                    bean.setName(readName(p, ctxt));
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, bean, name);
+                    break;
+            }
+        }
+        return bean;
+    }
+
+    private Long readId(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, Long.class);
+    }
+
+    private String readName(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, String.class);
+    }
+}
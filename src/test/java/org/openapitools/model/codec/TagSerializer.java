@@ -0,0 +1,51 @@
+// Generated by org.openapitools.ModelCodecGenerator. Do not edit.
+package org.openapitools.model.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.openapitools.model.Tag;
+
+import java.io.IOException;
+
+public final class TagSerializer extends StdSerializer<Tag> implements ResolvableSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+
+    private static final SerializableString NAME = new SerializedString("name");
+
+    public TagSerializer() {
+        super(Tag.class);
+    }
+
+    @Override
+    public void resolve(final SerializerProvider provider) throws JsonMappingException {
+    }
+
+    @Override
+    public void serialize(final Tag value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        final Long id = value.getId();
+        gen.writeFieldName(ID);
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(id.longValue());
+        }
+        final String name = value.getName();
+        gen.writeFieldName(NAME);
+        if (name == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(name);
+        }
+        gen.writeEndObject();
+    }
+}